@@ -0,0 +1,132 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigValue;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@link ArrayNode} that is a view of a {@link ConfigList}.<br>
+ * The nodes of the elements are only created once they are accessed; modifying the array creates the
+ * nodes of all its elements.
+ *
+ * @see HoconNodes
+ */
+public class HoconArrayNode extends ArrayNode {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Same as the children of the ArrayNode, which are not accessible.
+     */
+    protected final Children _elements;
+
+    public HoconArrayNode(HoconNodes nodes, ConfigList list) {
+        this(nodes, new Children(nodes, list));
+    }
+
+    protected HoconArrayNode(HoconNodes nodes, Children elements) {
+        super(nodes.getNodeFactory(), elements);
+        _elements = elements;
+    }
+
+    /**
+     * @return The ConfigList this node is a view of, or null if the node, or one of its descendants,
+     * was modified since.
+     */
+    public ConfigList getConfigList() {
+        return _elements._isModified() ? null : _elements._source;
+    }
+
+    /**
+     * List of the child nodes, that creates them on access as long as it is not modified.
+     */
+    protected static class Children extends AbstractList<JsonNode> implements RandomAccess {
+
+        protected final HoconNodes _nodes;
+
+        /**
+         * The list the nodes are created from; null once all nodes were created, after which
+         * {@link #_complete} is the (modifiable) list of the children.
+         */
+        protected ConfigList _source;
+
+        protected JsonNode[] _created;
+
+        protected List<JsonNode> _complete;
+
+        protected Children(HoconNodes nodes, ConfigList source) {
+            _nodes = nodes;
+            _source = source;
+            _created = new JsonNode[source.size()];
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            if (_source == null) {
+                return _complete.get(index);
+            }
+            JsonNode node = _created[index];
+            if (node == null) {
+                ConfigValue value = _source.get(index);
+                node = _nodes.toNode(value);
+                _created[index] = node;
+            }
+            return node;
+        }
+
+        @Override
+        public int size() {
+            return (_source != null) ? _source.size() : _complete.size();
+        }
+
+        @Override
+        public JsonNode set(int index, JsonNode element) {
+            return _complete().set(index, element);
+        }
+
+        @Override
+        public void add(int index, JsonNode element) {
+            ++modCount;
+            _complete().add(index, element);
+        }
+
+        @Override
+        public JsonNode remove(int index) {
+            ++modCount;
+            return _complete().remove(index);
+        }
+
+        /**
+         * @return Whether the list, or one of the views created for its elements, was modified.
+         */
+        protected boolean _isModified() {
+            if (_source == null) {
+                return true;
+            }
+            for (JsonNode node : _created) {
+                if (HoconNodes._isModifiedView(node)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        protected List<JsonNode> _complete() {
+            if (_source != null) {
+                List<JsonNode> complete = new ArrayList<>(_created.length + 4);
+                for (int i = 0; i < _created.length; ++i) {
+                    complete.add(get(i));
+                }
+                _complete = complete;
+                _created = null;
+                _source = null;
+            }
+            return _complete;
+        }
+    }
+}
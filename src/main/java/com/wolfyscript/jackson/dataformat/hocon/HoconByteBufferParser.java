@@ -0,0 +1,55 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.IOContext;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Streaming parser that reads HOCON from a UTF-8 encoded ByteBuffer, which holds the whole document.
+ * Used for memory mapped files (see {@link HoconReadFeature#MEMORY_MAPPED_FILES}), so that the content
+ * is never copied onto the heap; only the keys and values that are actually accessed are decoded.<br>
+ * <br>
+ * Same as the {@link HoconUTF8StreamParser}, but uses absolute gets on the buffer instead of array access.
+ */
+public class HoconByteBufferParser extends HoconUTF8ParserBase {
+
+    protected ByteBuffer _inputBuffer;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    /**
+     * Creates a parser for the remaining content of the buffer.
+     * The position and limit of the buffer are not modified.
+     */
+    public HoconByteBufferParser(IOContext ctxt, int features, ObjectCodec codec, ByteBuffer inputBuffer) {
+        super(ctxt, features, codec, inputBuffer.position(), inputBuffer.limit());
+        _inputBuffer = inputBuffer;
+    }
+
+    @Override
+    protected void _closeInput() {
+        // Mapped buffers are released once no longer referenced
+    }
+
+    @Override
+    protected void _releaseBuffers() throws IOException {
+        super._releaseBuffers();
+        _inputBuffer = null;
+    }
+
+    /*
+    /**********************************************************
+    /* Input access
+    /**********************************************************
+     */
+
+    @Override
+    protected int _byte(int ptr) {
+        return _inputBuffer.get(ptr);
+    }
+}
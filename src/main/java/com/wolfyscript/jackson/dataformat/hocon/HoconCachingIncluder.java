@@ -0,0 +1,199 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigOrigin;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigParseable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Includer that keeps the parsed content of included files in a {@link HoconConfigCache}, so that files
+ * which are included by many documents are only parsed again once they change.
+ * Configured on the {@link HoconFactory}, see {@link HoconFactory#setConfigIncluder(ConfigIncluder)}.<br>
+ * <br>
+ * Covers heuristic, {@code file()}, {@code url()} and {@code classpath()} includes. An include is only
+ * cached if all the files it may be read from are local (including resources in local jar files);
+ * the cached content stays valid as long as the modification times and sizes of these files stay the same.
+ * Other includes are passed on to the fallback includer every time.<br>
+ * <br>
+ * The content is cached before resolution, the same way it is included, so the same entry can be used
+ * by documents that resolve substitutions differently. Files included by the cached file are only checked
+ * for modifications when the cached file itself is parsed again.
+ */
+public class HoconCachingIncluder extends HoconIncluderBase {
+
+    protected final HoconConfigCache _cache;
+
+    public HoconCachingIncluder(HoconConfigCache cache) {
+        this(cache, null);
+    }
+
+    protected HoconCachingIncluder(HoconConfigCache cache, ConfigIncluder fallback) {
+        super(fallback);
+        _cache = cache;
+    }
+
+    /**
+     * @return The cache of the included content, shared by all includers created through {@link #withFallback(ConfigIncluder)}.
+     */
+    public HoconConfigCache getCache() {
+        return _cache;
+    }
+
+    public long getHitCount() {
+        return _cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _cache.getMissCount();
+    }
+
+    /*
+    /**********************************************************
+    /* ConfigIncluder implementation
+    /**********************************************************
+     */
+
+    @Override
+    protected HoconIncluderBase _withFallback(ConfigIncluder fallback) {
+        return new HoconCachingIncluder(_cache, fallback);
+    }
+
+    @Override
+    public ConfigObject include(ConfigIncludeContext context, String what) {
+        StringBuilder key = new StringBuilder("include ");
+        List<File> files = new ArrayList<>();
+        URL url = _toURL(what);
+        boolean cacheable = true;
+        if (url != null) {
+            cacheable = _addURL(url, key, files);
+        } else {
+            // Resolved the same way as by the default includer: relative to the including document
+            for (String name : _candidates(what)) {
+                ConfigParseable p = context.relativeTo(name);
+                if (p == null || !_addOrigin(p.origin(), context, key, files)) {
+                    cacheable = false;
+                    break;
+                }
+            }
+        }
+        return _include(cacheable, key, files, context, () -> _fallbackInclude(context, what));
+    }
+
+    @Override
+    public ConfigObject includeFile(ConfigIncludeContext context, File what) {
+        StringBuilder key = new StringBuilder("file ");
+        List<File> files = new ArrayList<>();
+        for (String name : _candidates(what.getPath())) {
+            _addFile(new File(name), key, files);
+        }
+        return _include(true, key, files, context, () -> _fallbackIncludeFile(context, what));
+    }
+
+    @Override
+    public ConfigObject includeURL(ConfigIncludeContext context, URL what) {
+        StringBuilder key = new StringBuilder("url ");
+        List<File> files = new ArrayList<>();
+        boolean cacheable = _addURL(what, key, files);
+        return _include(cacheable, key, files, context, () -> _fallbackIncludeURL(context, what));
+    }
+
+    @Override
+    public ConfigObject includeResources(ConfigIncludeContext context, String what) {
+        StringBuilder key = new StringBuilder("classpath ");
+        List<File> files = new ArrayList<>();
+        ClassLoader loader = context.parseOptions().getClassLoader();
+        boolean cacheable = true;
+        for (String name : _candidates(what)) {
+            if (!_addResources(name, loader, key, files)) {
+                cacheable = false;
+                break;
+            }
+        }
+        return _include(cacheable, key, files, context, () -> _fallbackIncludeResources(context, what));
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    /**
+     * @param key Identifies all the sources the include may be read from.
+     * @param files The local files of these sources, which are checked for modifications.
+     */
+    protected ConfigObject _include(boolean cacheable, StringBuilder key, List<File> files, ConfigIncludeContext context, Supplier<ConfigObject> loader) {
+        if (!cacheable) {
+            return loader.get();
+        }
+        // Missing optional includes are empty, while missing required ones fail
+        ConfigParseOptions options = context.parseOptions();
+        key.append(" allowMissing=").append(options.getAllowMissing()).append(" syntax=").append(options.getSyntax());
+        long[] stamp = new long[files.size() * 2];
+        for (int i = 0; i < files.size(); ++i) {
+            File f = files.get(i);
+            stamp[i * 2] = f.lastModified();
+            stamp[i * 2 + 1] = f.length();
+        }
+        try {
+            return _cache._get(key.toString(), stamp, loader);
+        } catch (IOException e) {
+            throw new ConfigException.Generic("Failed to include " + key, e);
+        }
+    }
+
+    protected boolean _addOrigin(ConfigOrigin origin, ConfigIncludeContext context, StringBuilder key, List<File> files) {
+        if (origin.filename() != null) {
+            _addFile(new File(origin.filename()), key, files);
+            return true;
+        }
+        if (origin.url() != null) {
+            return _addURL(origin.url(), key, files);
+        }
+        if (origin.resource() != null) {
+            return _addResources(origin.resource(), context.parseOptions().getClassLoader(), key, files);
+        }
+        return false;
+    }
+
+    protected void _addFile(File f, StringBuilder key, List<File> files) {
+        f = f.getAbsoluteFile();
+        key.append(f.getPath()).append(';');
+        files.add(f);
+    }
+
+    protected boolean _addURL(URL url, StringBuilder key, List<File> files) {
+        File f = _localFile(url);
+        if (f == null) {
+            return false;
+        }
+        key.append(url.toExternalForm()).append(';');
+        files.add(f);
+        return true;
+    }
+
+    /**
+     * All resources of the name are included, the same way as by the default includer.
+     */
+    protected boolean _addResources(String name, ClassLoader loader, StringBuilder key, List<File> files) {
+        int start = files.size();
+        if (!_addLocalResources(name, loader, files)) {
+            return false;
+        }
+        key.append(name).append('=');
+        for (int i = start; i < files.size(); ++i) {
+            key.append(files.get(i).getPath()).append(';');
+        }
+        key.append(';');
+        return true;
+    }
+}
@@ -0,0 +1,267 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigParseOptions;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of resolved Configs, that is used by the {@link HoconFactory} for files and URLs
+ * (see {@link HoconFactory#setConfigCache(HoconConfigCache)}), so that files which have not changed are not
+ * parsed and resolved again.<br>
+ * <br>
+ * Entries are keyed by the canonical path of the file (or the URL) and the variant it is read with, like the
+ * parse options (see {@link #optionsKey(ConfigParseOptions)}); so a cache can be shared by factories that are
+ * configured differently. Entries are only valid as long as the modification time and size of the file stay the same. Entries are evicted once they are older than the
+ * time to live, or if the cache is full, starting with the least recently used one.
+ * Concurrent reads of the same file wait for a single parse instead of each parsing it.<br>
+ * <br>
+ * Only the file itself is checked for modifications; changes to included files are only picked up
+ * once the entry expires. Included files can be cached on their own with a {@link HoconCachingIncluder}.
+ */
+public class HoconConfigCache {
+
+    protected final int _maxEntries;
+
+    protected final long _ttlNanos;
+
+    /**
+     * The entries in access order, guarded by itself.
+     */
+    protected final LinkedHashMap<Object, Entry> _entries;
+
+    protected final AtomicLong _hits = new AtomicLong();
+
+    protected final AtomicLong _misses = new AtomicLong();
+
+    /**
+     * @param maxEntries The maximum number of cached Configs.
+     * @param ttl The time after which a cached Config is parsed again, even if the file did not change.
+     */
+    public HoconConfigCache(int maxEntries, long ttl, TimeUnit unit) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, was " + maxEntries);
+        }
+        _maxEntries = maxEntries;
+        _ttlNanos = unit.toNanos(ttl);
+        _entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > _maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return The resolved root of the file, or null if it is not a file.
+     */
+    public ConfigObject get(File f) throws IOException {
+        return get(f, ConfigParseOptions.defaults());
+    }
+
+    /**
+     * @return The resolved root of the file, or null if it is not a file.
+     */
+    public ConfigObject get(File f, ConfigParseOptions options) throws IOException {
+        return get(f, optionsKey(options), () -> ConfigFactory.parseFile(f, options).resolve());
+    }
+
+    /**
+     * @param variant Identifies how the loader reads the file, compared by {@link Object#equals(Object)};
+     *                the file is cached separately for each variant.
+     * @param loader Parses and resolves the file, if it is not cached.
+     * @return The resolved root of the file, or null if it is not a file.
+     */
+    public ConfigObject get(File f, Object variant, Supplier<? extends Config> loader) throws IOException {
+        if (!f.isFile()) {
+            return null;
+        }
+        return _get(Arrays.asList(f.getCanonicalPath(), variant), new long[] { f.lastModified(), f.length() }, () -> loader.get().root());
+    }
+
+    /**
+     * Only URLs of local files or of entries in local jar files can be checked for modifications.
+     *
+     * @return The resolved root of the URL, or null if it can not be cached.
+     */
+    public ConfigObject get(URL url) throws IOException {
+        return get(url, ConfigParseOptions.defaults());
+    }
+
+    /**
+     * Only URLs of local files or of entries in local jar files can be checked for modifications.
+     *
+     * @return The resolved root of the URL, or null if it can not be cached.
+     */
+    public ConfigObject get(URL url, ConfigParseOptions options) throws IOException {
+        return get(url, optionsKey(options), () -> ConfigFactory.parseURL(url, options).resolve());
+    }
+
+    /**
+     * Only URLs of local files or of entries in local jar files can be checked for modifications.
+     *
+     * @param variant Identifies how the loader reads the URL, see {@link #get(File, Object, Supplier)}.
+     * @param loader Parses and resolves the URL, if it is not cached.
+     * @return The resolved root of the URL, or null if it can not be cached.
+     */
+    public ConfigObject get(URL url, Object variant, Supplier<? extends Config> loader) throws IOException {
+        File f = _localFile(url);
+        if (f == null || !f.isFile()) {
+            return null;
+        }
+        return _get(Arrays.asList(url.toExternalForm(), variant), new long[] { f.lastModified(), f.length() }, () -> loader.get().root());
+    }
+
+    /**
+     * Returns the cached root for the key, as long as it is still valid for the last modification time and
+     * size of the source. Otherwise, it is loaded again; concurrent callers wait for the same load.
+     *
+     * @param loader Parses and resolves the Config, if it is not cached.
+     */
+    public ConfigObject get(String key, long lastModified, long size, Supplier<? extends Config> loader) throws IOException {
+        return _get(key, new long[] { lastModified, size }, () -> loader.get().root());
+    }
+
+    /**
+     * @return The parts of the options that change the parsed Config, to be used as the variant of a source
+     * (see {@link #get(File, Object, Supplier)}). The includer and class loader are compared by identity.
+     */
+    public static Object optionsKey(ConfigParseOptions options) {
+        return Arrays.asList(options.getSyntax(), options.getOriginDescription(), options.getAllowMissing(),
+                options.getIncluder(), options.getClassLoader());
+    }
+
+    /**
+     * @return The number of reads that were served from the cache, including those that waited for a
+     * concurrent load.
+     */
+    public long getHitCount() {
+        return _hits.get();
+    }
+
+    /**
+     * @return The number of reads that had to load the Config.
+     */
+    public long getMissCount() {
+        return _misses.get();
+    }
+
+    /**
+     * @return The number of cached Configs, including those that are still loading or have expired.
+     */
+    public int size() {
+        synchronized (_entries) {
+            return _entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (_entries) {
+            _entries.clear();
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    /**
+     * Same as {@link #get(String, long, long, Supplier)}, but for sources that consist of several files.
+     *
+     * @param stamp The modification times and sizes of all files of the source; the entry is only
+     *              valid as long as these are the same.
+     */
+    protected ConfigObject _get(Object key, long[] stamp, Supplier<ConfigObject> loader) throws IOException {
+        Entry entry;
+        boolean load = false;
+        synchronized (_entries) {
+            entry = _entries.get(key);
+            if (entry == null || !entry.isValid(stamp, System.nanoTime())) {
+                entry = new Entry(stamp, System.nanoTime(), new FutureTask<>(loader::get));
+                _entries.put(key, entry);
+                load = true;
+            }
+        }
+        if (load) {
+            _misses.incrementAndGet();
+            entry.task.run();
+        } else {
+            _hits.incrementAndGet();
+        }
+        try {
+            return entry.task.get();
+        } catch (ExecutionException e) {
+            synchronized (_entries) {
+                // so that the next read tries again
+                _entries.remove(key, entry);
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the Config of " + key);
+        }
+    }
+
+    /**
+     * @return The local file that contains the content of the URL, or null if there is none.
+     */
+    protected static File _localFile(URL url) throws IOException {
+        if ("jar".equals(url.getProtocol())) {
+            URLConnection connection = url.openConnection();
+            if (!(connection instanceof JarURLConnection)) {
+                return null;
+            }
+            url = ((JarURLConnection) connection).getJarFileURL();
+        }
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    protected final class Entry {
+        final long[] stamp;
+        final long created;
+        final FutureTask<ConfigObject> task;
+
+        Entry(long[] stamp, long created, FutureTask<ConfigObject> task) {
+            this.stamp = stamp;
+            this.created = created;
+            this.task = task;
+        }
+
+        boolean isValid(long[] stamp, long now) {
+            return Arrays.equals(this.stamp, stamp) && now - created < _ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.io.NumberOutput;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generator that builds a Config tree, instead of writing text; similar to a
+ * {@link com.fasterxml.jackson.databind.util.TokenBuffer}.<br>
+ * The values are the same as if the output of the {@link HoconGenerator} was parsed again: decimals are
+ * converted into doubles, integers too big for a long into strings (like the HOCON parser does) and binary
+ * data into base64 strings.<br>
+ * Once the root value is complete, it is available from {@link #getConfigValue()}.
+ *
+ * @see HoconMapper#valueToConfig(Object)
+ */
+public class HoconConfigGenerator extends GeneratorBase {
+
+    protected final static String WRITE_ARRAY = "write an array";
+    protected final static String WRITE_OBJECT = "write an object";
+
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Description of the origin of the created values, see {@link ConfigValueFactory#fromAnyRef(Object, String)}.
+     */
+    protected final String _originDescription;
+
+    /**
+     * The objects ({@link Map}s) and arrays ({@link List}s) that are currently written, innermost first.
+     */
+    protected final Deque<Object> _containers = new ArrayDeque<>();
+
+    protected Object _root;
+
+    protected boolean _hasRoot;
+
+    public HoconConfigGenerator(int jsonFeatures, ObjectCodec codec, String originDescription) {
+        super(jsonFeatures, codec);
+        _originDescription = originDescription;
+    }
+
+    /**
+     * @return The written root value, or null if no value was written.
+     * @throws IllegalStateException If the root value is not complete yet.
+     */
+    public ConfigValue getConfigValue() {
+        if (!_containers.isEmpty()) {
+            throw new IllegalStateException("Root value is not complete, still in " + _writeContext.typeDesc());
+        }
+        return _hasRoot ? ConfigValueFactory.fromAnyRef(_root, _originDescription) : null;
+    }
+
+    @Override
+    public void flush() {
+        // Nothing is written
+    }
+
+    @Override
+    protected void _releaseBuffers() {
+        // No buffers to release
+    }
+
+    /*
+    /**********************************************************
+    /* Structural output
+    /**********************************************************
+     */
+
+    @Override
+    public void writeStartArray() throws IOException {
+        writeStartArray(null);
+    }
+
+    @Override
+    public void writeStartArray(Object forValue) throws IOException {
+        _verifyValueWrite(WRITE_ARRAY);
+        List<Object> array = new ArrayList<>();
+        _addValue(array);
+        _writeContext = _writeContext.createChildArrayContext(forValue);
+        _containers.push(array);
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        if (!_writeContext.inArray()) {
+            _reportError("Current context not Array but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.clearAndGetParent();
+        _containers.pop();
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        writeStartObject(null);
+    }
+
+    @Override
+    public void writeStartObject(Object forValue) throws IOException {
+        _verifyValueWrite(WRITE_OBJECT);
+        Map<String, Object> object = new LinkedHashMap<>();
+        _addValue(object);
+        _writeContext = _writeContext.createChildObjectContext(forValue);
+        _containers.push(object);
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        if (!_writeContext.inObject()) {
+            _reportError("Current context not Object but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.clearAndGetParent();
+        _containers.pop();
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        if (_writeContext.writeFieldName(name) == JsonWriteContext.STATUS_EXPECT_VALUE) {
+            _reportError("Cannot write a field name, expecting a value");
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Scalar output
+    /**********************************************************
+     */
+
+    @Override
+    public void writeString(String text) throws IOException {
+        _writeScalar(text, WRITE_STRING);
+    }
+
+    @Override
+    public void writeString(char[] buffer, int offset, int len) throws IOException {
+        _writeScalar(new String(buffer, offset, len), WRITE_STRING);
+    }
+
+    @Override
+    public void writeUTF8String(byte[] buffer, int offset, int len) throws IOException {
+        _writeScalar(new String(buffer, offset, len, StandardCharsets.UTF_8), WRITE_STRING);
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] buffer, int offset, int len) throws IOException {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeNumber(int v) throws IOException {
+        _writeScalar(_cfgNumbersAsStrings ? String.valueOf(v) : v, WRITE_NUMBER);
+    }
+
+    @Override
+    public void writeNumber(long v) throws IOException {
+        _writeScalar(_cfgNumbersAsStrings ? String.valueOf(v) : v, WRITE_NUMBER);
+    }
+
+    @Override
+    public void writeNumber(BigInteger v) throws IOException {
+        if (v == null) {
+            writeNull();
+            return;
+        }
+        if (_cfgNumbersAsStrings || v.compareTo(MIN_LONG) < 0 || v.compareTo(MAX_LONG) > 0) {
+            _writeScalar(v.toString(), WRITE_NUMBER);
+        } else {
+            _writeScalar(v.longValue(), WRITE_NUMBER);
+        }
+    }
+
+    @Override
+    public void writeNumber(double v) throws IOException {
+        if (_cfgNumbersAsStrings || (NumberOutput.notFinite(v) && isEnabled(JsonGenerator.Feature.QUOTE_NON_NUMERIC_NUMBERS))) {
+            _writeScalar(String.valueOf(v), WRITE_NUMBER);
+        } else {
+            _writeScalar(v, WRITE_NUMBER);
+        }
+    }
+
+    @Override
+    public void writeNumber(float v) throws IOException {
+        if (_cfgNumbersAsStrings || (NumberOutput.notFinite(v) && isEnabled(JsonGenerator.Feature.QUOTE_NON_NUMERIC_NUMBERS))) {
+            _writeScalar(String.valueOf(v), WRITE_NUMBER);
+        } else {
+            // the same double as parsing the text of the float
+            _writeScalar(Double.parseDouble(String.valueOf(v)), WRITE_NUMBER);
+        }
+    }
+
+    @Override
+    public void writeNumber(BigDecimal value) throws IOException {
+        if (value == null) {
+            writeNull();
+        } else if (_cfgNumbersAsStrings) {
+            _writeScalar(isEnabled(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN) ? value.toPlainString() : value.toString(), WRITE_NUMBER);
+        } else {
+            // BigDecimal isn't supported by Config values and is converted to double (See: ConfigImpl#fromAnyRef(Object object, ConfigOrigin origin,FromMapMode mapMode))
+            _writeScalar(value.doubleValue(), WRITE_NUMBER);
+        }
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+        if (encodedValue == null) {
+            writeNull();
+            return;
+        }
+        _writeScalar(_cfgNumbersAsStrings ? encodedValue : _parseNumber(encodedValue), WRITE_NUMBER);
+    }
+
+    /**
+     * @return The number, like the HOCON parser would read it; text that is no number is kept as a string.
+     */
+    protected Object _parseNumber(String text) {
+        try {
+            if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+                return Double.parseDouble(text);
+            }
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return text;
+        }
+    }
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        _writeScalar(state, WRITE_BOOLEAN);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        _writeScalar(null, WRITE_NULL);
+    }
+
+    @Override
+    public void writeBinary(Base64Variant bv, byte[] data, int offset, int len) throws IOException {
+        if (data == null) {
+            writeNull();
+            return;
+        }
+        if (offset > 0 || (offset+len) != data.length) {
+            data = Arrays.copyOfRange(data, offset, offset+len);
+        }
+        _writeScalar(bv.encode(data), WRITE_BINARY);
+    }
+
+    /**
+     * Config values are added to the tree as they are, everything else is serialized as usual.
+     */
+    @Override
+    public void writeObject(Object value) throws IOException {
+        if (value instanceof ConfigValue) {
+            _writeScalar(value, "write a Config value");
+            return;
+        }
+        super.writeObject(value);
+    }
+
+    protected void _writeScalar(Object value, String typeMsg) throws IOException {
+        _verifyValueWrite(typeMsg);
+        _addValue(value);
+    }
+
+    /*
+    /**********************************************************
+    /* Raw output, not supported as nothing is parsed
+    /**********************************************************
+     */
+
+    @Override
+    public void writeRaw(String text) throws IOException {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(String text, int offset, int len) throws IOException {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(char[] text, int offset, int len) throws IOException {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(char c) throws IOException {
+        _reportUnsupportedOperation();
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    @Override
+    protected void _verifyValueWrite(String typeMsg) throws IOException {
+        if (_writeContext.writeValue() == JsonWriteContext.STATUS_EXPECT_NAME) {
+            _reportError(String.format("Can not %s, expecting field name (context: %s)", typeMsg, _writeContext.typeDesc()));
+        }
+    }
+
+    /**
+     * Adds the value to the current object or array, or sets it as the root value.
+     */
+    @SuppressWarnings("unchecked")
+    protected void _addValue(Object value) throws IOException {
+        Object container = _containers.peek();
+        if (container instanceof Map) {
+            ((Map<String, Object>) container).put(_writeContext.getCurrentName(), value);
+        } else if (container instanceof List) {
+            ((List<Object>) container).add(value);
+        } else {
+            if (_hasRoot) {
+                _reportError("Can not write more than one root value into a Config value");
+            }
+            _root = value;
+            _hasRoot = true;
+        }
+    }
+}
@@ -13,7 +13,13 @@ import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.io.UTF8Writer;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigSyntax;
+import com.typesafe.config.ConfigValueFactory;
 import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,7 +30,16 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 /**
  * This code was pretty much copied from the jackson YAMLFactory
@@ -41,6 +56,8 @@ public class HoconFactory extends JsonFactory {
     private final static byte UTF8_BOM_2 = (byte) 0xBB;
     private final static byte UTF8_BOM_3 = (byte) 0xBF;
 
+    protected static final int DEFAULT_HOCON_PARSER_FEATURES = HoconReadFeature.collectDefaults();
+
     protected static final int DEFAULT_HOCON_GENERATOR_FEATURES = HoconGenerator.Feature.collectDefaults();
 
     /*
@@ -49,8 +66,25 @@ public class HoconFactory extends JsonFactory {
     /**********************************************************
      */
 
+    protected int _hoconParserFeatures = DEFAULT_HOCON_PARSER_FEATURES;
+
     protected int _hoconGeneratorFeatures = DEFAULT_HOCON_GENERATOR_FEATURES;
 
+    /**
+     * Optional cache of the resolved Configs of files and URLs; shared with copies of this factory.
+     */
+    protected transient HoconConfigCache _configCache;
+
+    /**
+     * Optional includer, that is used for the includes of all parsed documents.
+     */
+    protected transient ConfigIncluder _configIncluder;
+
+    /**
+     * Optional executor, that loads the includes of files concurrently.
+     */
+    protected transient Executor _includeExecutor;
+
     public HoconFactory() {
         this(null);
     }
@@ -61,6 +95,11 @@ public class HoconFactory extends JsonFactory {
 
     public HoconFactory(HoconFactory src, ObjectCodec oc) {
         super(src, oc);
+        _hoconParserFeatures = src._hoconParserFeatures;
+        _hoconGeneratorFeatures = src._hoconGeneratorFeatures;
+        _configCache = src._configCache;
+        _configIncluder = src._configIncluder;
+        _includeExecutor = src._includeExecutor;
     }
 
 
@@ -103,6 +142,16 @@ public class HoconFactory extends JsonFactory {
     /**********************************************************
      */
 
+    @Override
+    public boolean canParseAsync() {
+        return true;
+    }
+
+    @Override
+    public Class<? extends FormatFeature> getFormatReadFeatureType() {
+        return HoconReadFeature.class;
+    }
+
     @Override
     public Class<? extends FormatFeature> getFormatWriteFeatureType() {
         return HoconGenerator.Feature.class;
@@ -159,6 +208,90 @@ public class HoconFactory extends JsonFactory {
     /**********************************************************
      */
 
+    /**
+     * Method for enabling or disabling specified parser features
+     * (check {@link HoconReadFeature} for list of features)
+     */
+    public final HoconFactory configure(HoconReadFeature f, boolean state) {
+        if (state) {
+            enable(f);
+        } else {
+            disable(f);
+        }
+        return this;
+    }
+
+    /**
+     * Method for enabling specified parser features
+     * (check {@link HoconReadFeature} for list of features)
+     */
+    public HoconFactory enable(HoconReadFeature f) {
+        _hoconParserFeatures |= f.getMask();
+        return this;
+    }
+
+    /**
+     * Method for disabling specified parser features
+     * (check {@link HoconReadFeature} for list of features)
+     */
+    public HoconFactory disable(HoconReadFeature f) {
+        _hoconParserFeatures &= ~f.getMask();
+        return this;
+    }
+
+    /**
+     * Check whether specified parser feature is enabled.
+     */
+    public final boolean isEnabled(HoconReadFeature f) {
+        return (_hoconParserFeatures & f.getMask()) != 0;
+    }
+
+    @Override
+    public int getFormatParserFeatures() {
+        return _hoconParserFeatures;
+    }
+
+    /**
+     * Sets the cache for the resolved Configs of files and URLs, or null to parse them on every read.<br>
+     * Cached files are read with the {@link HoconTreeTraversingParser}, even if they could be streamed.
+     */
+    public HoconFactory setConfigCache(HoconConfigCache cache) {
+        _configCache = cache;
+        return this;
+    }
+
+    public HoconConfigCache getConfigCache() {
+        return _configCache;
+    }
+
+    /**
+     * Sets the includer for the includes of parsed documents, or null to use the default includer
+     * of Typesafe Config.<br>
+     * A {@link HoconCachingIncluder} reuses the content of included files across documents.
+     */
+    public HoconFactory setConfigIncluder(ConfigIncluder includer) {
+        _configIncluder = includer;
+        return this;
+    }
+
+    public ConfigIncluder getConfigIncluder() {
+        return _configIncluder;
+    }
+
+    /**
+     * Sets the executor that loads the includes of files concurrently, or null to load them one after another
+     * while parsing. The includes are still merged in the order of the document,
+     * see {@link HoconPrefetchingIncluder}.
+     */
+    public HoconFactory setIncludeExecutor(Executor executor) {
+        _includeExecutor = executor;
+        return this;
+    }
+
+    public Executor getIncludeExecutor() {
+        return _includeExecutor;
+    }
+
     /*
     /**********************************************************
     /* Configuration, generator settings
@@ -225,17 +358,45 @@ public class HoconFactory extends JsonFactory {
     @SuppressWarnings("resource")
     @Override
     public HoconTreeTraversingParser createParser(File f) throws IOException, JsonParseException {
+        if (_configCache != null) {
+            ConfigObject cached = _configCache.get(f, _cacheVariant(), () -> _root(_parseFile(f)).toConfig());
+            if (cached != null) {
+                return _createTreeParser(cached);
+            }
+        }
         // choosing to support hocon include instead of inputDecorator
-        Config resolvedConfig = ConfigFactory.parseFile(f).resolve();
-        return new HoconTreeTraversingParser(resolvedConfig.root(), _objectCodec);
+        Config resolvedConfig = _parseFile(f);
+        return _createTreeParser(_root(resolvedConfig));
+    }
+
+    /**
+     * Method for constructing a parser for the file at the specified path.
+     * Same as {@link #createParser(File)}, but also supports files of other file systems; those do not
+     * support includes relative to the file, as the Typesafe Config can not resolve them.
+     */
+    @SuppressWarnings("resource")
+    public HoconTreeTraversingParser createParser(Path path) throws IOException, JsonParseException {
+        if (path.getFileSystem() == FileSystems.getDefault()) {
+            return createParser(path.toFile());
+        }
+        String name = String.valueOf(path.getFileName());
+        ConfigParseOptions options = _parseOptions().setSyntax(_syntaxForName(name)).setOriginDescription(path.toString());
+        Config resolvedConfig = ConfigFactory.parseReader(Files.newBufferedReader(path, StandardCharsets.UTF_8), options).resolve();
+        return _createTreeParser(_root(resolvedConfig));
     }
 
     @SuppressWarnings("resource")
     @Override
     public HoconTreeTraversingParser createParser(URL url) throws IOException, JsonParseException {
+        if (_configCache != null) {
+            ConfigObject cached = _configCache.get(url, _cacheVariant(), () -> _root(ConfigFactory.parseURL(url, _parseOptions()).resolve()).toConfig());
+            if (cached != null) {
+                return _createTreeParser(cached);
+            }
+        }
         // choosing to support hocon include instead of inputDecorator
-        Config resolvedConfig = ConfigFactory.parseURL(url).resolve();
-        return new HoconTreeTraversingParser(resolvedConfig.root(), _objectCodec);
+        Config resolvedConfig = ConfigFactory.parseURL(url, _parseOptions()).resolve();
+        return _createTreeParser(_root(resolvedConfig));
     }
 
     @SuppressWarnings("resource")
@@ -280,6 +441,117 @@ public class HoconFactory extends JsonFactory {
         return _createParser(data, offset, len, ctxt);
     }
 
+    /**
+     * Creates a {@link HoconNonBlockingParser}, that is fed with chunks of UTF-8 encoded input.<br>
+     * Like all streaming parsers, it can not parse HOCON that requires resolution and always reports
+     * duplicate keys, instead of merging them (see {@link HoconReadFeature#STRICT_STREAMING_PARSER}).
+     */
+    @Override
+    public JsonParser createNonBlockingByteArrayParser() throws IOException {
+        IOContext ctxt = _createNonBlockingContext(null);
+        return _initStreamingParser(new HoconNonBlockingParser(ctxt, _streamingParserFeatures(), _objectCodec));
+    }
+
+    /*
+    /**********************************************************
+    /* Streaming parser factory methods
+    /**********************************************************
+     */
+
+    /**
+     * Creates a {@link HoconStreamingParser} for the content, no matter if
+     * {@link HoconReadFeature#STRICT_STREAMING_PARSER} is enabled. Like all streaming parsers, it only supports
+     * the strict subset of HOCON that needs no resolution, see {@link HoconReadFeature#STRICT_STREAMING_PARSER}.
+     */
+    @SuppressWarnings("resource")
+    public HoconStreamingParser createStreamingParser(String content) throws IOException {
+        if (_inputDecorator != null) {
+            return createStreamingParser(new StringReader(content));
+        }
+        char[] data = content.toCharArray();
+        return _createStreamingParser(data, 0, data.length, _createContext(_createContentReference(content), true));
+    }
+
+    /**
+     * Same as {@link #createStreamingParser(String)}; the whole content is read before parsing.
+     */
+    @SuppressWarnings("resource")
+    public HoconStreamingParser createStreamingParser(Reader r) throws IOException {
+        IOContext ctxt = _createContext(_createContentReference(r), false);
+        char[] content = _readContent(_decorate(r, ctxt));
+        return _createStreamingParser(content, 0, content.length, ctxt);
+    }
+
+    /**
+     * Same as {@link #createStreamingParser(String)}, for UTF-8 encoded content; the whole content is read
+     * before parsing.
+     */
+    @SuppressWarnings("resource")
+    public HoconStreamingParser createStreamingParser(InputStream in) throws IOException {
+        IOContext ctxt = _createContext(_createContentReference(in), false);
+        byte[] content = _readContent(_decorate(in, ctxt), isEnabled(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+        return _createStreamingParser(content, 0, content.length, ctxt);
+    }
+
+    /**
+     * Same as {@link #createStreamingParser(String)}, for UTF-8 encoded content.
+     */
+    public HoconStreamingParser createStreamingParser(byte[] data) throws IOException {
+        return createStreamingParser(data, 0, data.length);
+    }
+
+    @SuppressWarnings("resource")
+    public HoconStreamingParser createStreamingParser(byte[] data, int offset, int len) throws IOException {
+        IOContext ctxt = _createContext(_createContentReference(data, offset, len), true);
+        if (_inputDecorator != null) {
+            InputStream in = _inputDecorator.decorate(ctxt, data, offset, len);
+            if (in != null) {
+                byte[] content = _readContent(in, true);
+                return _createStreamingParser(content, 0, content.length, ctxt);
+            }
+        }
+        return _createStreamingParser(data, offset, len, ctxt);
+    }
+
+    /**
+     * Same as {@link #createStreamingParser(String)}, for a UTF-8 encoded file, which is mapped into memory if
+     * {@link HoconReadFeature#MEMORY_MAPPED_FILES} is enabled.
+     */
+    public HoconStreamingParser createStreamingParser(File f) throws IOException {
+        return _createStreamingParser(f.toPath(), _createContext(_createContentReference(f), true));
+    }
+
+    public HoconStreamingParser createStreamingParser(Path path) throws IOException {
+        return _createStreamingParser(path, _createContext(_createContentReference(path), true));
+    }
+
+    /**
+     * Same as {@link #createStreamingParser(String)}, for UTF-8 encoded content; the whole content is read
+     * before parsing.
+     */
+    @SuppressWarnings("resource")
+    public HoconStreamingParser createStreamingParser(URL url) throws IOException {
+        IOContext ctxt = _createContext(_createContentReference(url), true);
+        byte[] content = _readContent(url.openStream(), true);
+        return _createStreamingParser(content, 0, content.length, ctxt);
+    }
+
+    /**
+     * @return Whether the {@link HoconMapper} reads the file with a streaming parser: only HOCON files are,
+     * if {@link HoconReadFeature#STRICT_STREAMING_PARSER} is enabled and there is no {@link HoconConfigCache}.
+     */
+    protected boolean _isStreamed(Path path) {
+        return isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) && _configCache == null
+                && _isConfSyntax(String.valueOf(path.getFileName())) && Files.isRegularFile(path);
+    }
+
+    /**
+     * @return Whether the {@link HoconMapper} reads the URL with a streaming parser, same as for files.
+     */
+    protected boolean _isStreamed(URL url) {
+        return isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) && _configCache == null && _isStreamableURL(url);
+    }
+
     /*
     /**********************************************************
     /* Overridden generator factory methods (2.1)
@@ -336,8 +608,13 @@ public class HoconFactory extends JsonFactory {
 
     @Override
     protected HoconTreeTraversingParser _createParser(Reader r, IOContext ctxt) throws IOException, JsonParseException {
-        Config resolvedConfig = ConfigFactory.parseReader(r).resolve();
-        return new HoconTreeTraversingParser(resolvedConfig.root(), _objectCodec);
+        Config resolvedConfig = ConfigFactory.parseReader(r, _parseOptions()).resolve();
+        return _createTreeParser(_root(resolvedConfig));
+    }
+
+    @Override
+    protected HoconTreeTraversingParser _createParser(char[] data, int offset, int len, IOContext ctxt, boolean recyclable) throws IOException {
+        return _createParser(new CharArrayReader(data, offset, len), ctxt);
     }
 
     @SuppressWarnings("resource")
@@ -374,6 +651,193 @@ public class HoconFactory extends JsonFactory {
     /**********************************************************
      */
 
+    /**
+     * @return The options for documents that are parsed into a Config tree.
+     */
+    protected ConfigParseOptions _parseOptions() {
+        ConfigParseOptions options = ConfigParseOptions.defaults();
+        return (_configIncluder == null) ? options : options.setIncluder(_configIncluder);
+    }
+
+    /**
+     * @return Identifies how this factory reads files and URLs into Configs, so that a {@link HoconConfigCache}
+     * shared with differently configured factories keeps their Configs apart.
+     */
+    protected Object _cacheVariant() {
+        return Arrays.asList(HoconConfigCache.optionsKey(_parseOptions()), isEnabled(HoconReadFeature.STRIP_ORIGINS));
+    }
+
+    /**
+     * Parses and resolves the file into a Config tree, loading its includes on the include executor if there is one.
+     */
+    protected Config _parseFile(File f) {
+        if (_includeExecutor == null) {
+            return ConfigFactory.parseFile(f, _parseOptions()).resolve();
+        }
+        HoconPrefetchingIncluder includer = new HoconPrefetchingIncluder(f, _includeExecutor, _configIncluder);
+        try {
+            return ConfigFactory.parseFile(f, ConfigParseOptions.defaults().setIncluder(includer)).resolve();
+        } finally {
+            includer.cancel();
+        }
+    }
+
+    /**
+     * @return The root of the resolved Config, without origins if {@link HoconReadFeature#STRIP_ORIGINS} is enabled.
+     */
+    protected ConfigObject _root(Config resolved) {
+        if (!isEnabled(HoconReadFeature.STRIP_ORIGINS)) {
+            return resolved.root();
+        }
+        return stripOrigins(resolved.root());
+    }
+
+    /**
+     * Copies the tree, sharing the origin of the root between all values. Values created from Java objects
+     * all share one origin, so only the unwrapped values are retained.
+     *
+     * @return An equal tree without the origins and comments of its values.
+     */
+    public static ConfigObject stripOrigins(ConfigObject root) {
+        return (ConfigObject) ConfigValueFactory.fromAnyRef(root.unwrapped(), root.origin().description());
+    }
+
+    /**
+     * Creates a parser that traverses the Config tree.
+     */
+    protected HoconTreeTraversingParser _createTreeParser(ConfigObject root) {
+        return new HoconTreeTraversingParser(root, _objectCodec, _hoconParserFeatures);
+    }
+
+    /**
+     * Passes the {@link HoconReadFeature}s on to a streaming parser.
+     */
+    protected <P extends HoconStreamingParser> P _initStreamingParser(P p) {
+        p.overrideFormatFeatures(_hoconParserFeatures, ~0);
+        return p;
+    }
+
+    /**
+     * @return The parser features of streaming parsers: duplicate keys are always reported, as HOCON
+     * would merge them instead.
+     */
+    protected int _streamingParserFeatures() {
+        return _parserFeatures | JsonParser.Feature.STRICT_DUPLICATE_DETECTION.getMask();
+    }
+
+    /**
+     * Creates a streaming parser for the content, see {@link HoconReadFeature#STRICT_STREAMING_PARSER}.
+     */
+    protected HoconStreamingParser _createStreamingParser(char[] data, int offset, int len, IOContext ctxt) throws IOException {
+        return _initStreamingParser(new HoconReaderBasedParser(ctxt, _streamingParserFeatures(), _objectCodec, data, offset, offset + len));
+    }
+
+    /**
+     * Same as {@link #_createStreamingParser(char[], int, int, IOContext)}, but for UTF-8 encoded content,
+     * which is parsed without decoding it to chars first.<br>
+     * Content that is not valid UTF-8 is reported by the parser once it is reached, see {@link HoconUTF8ParserBase}.
+     */
+    protected HoconStreamingParser _createStreamingParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+        return _initStreamingParser(new HoconUTF8StreamParser(ctxt, _streamingParserFeatures(), _objectCodec, data, offset, offset + len));
+    }
+
+    /**
+     * Creates a streaming parser for the file at the specified path.<br>
+     * Files of the default file system are mapped into memory if {@link HoconReadFeature#MEMORY_MAPPED_FILES}
+     * is enabled, otherwise they are read into a byte array.
+     */
+    protected HoconStreamingParser _createStreamingParser(Path path, IOContext ctxt) throws IOException {
+        if (isEnabled(HoconReadFeature.MEMORY_MAPPED_FILES) && path.getFileSystem() == FileSystems.getDefault()) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("File too large for a streaming parser: " + path);
+                }
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            return _createStreamingParser(buffer, ctxt);
+        }
+        byte[] content = _readContent(Files.newInputStream(path), true);
+        return _createStreamingParser(content, 0, content.length, ctxt);
+    }
+
+    /**
+     * Same as {@link #_createStreamingParser(byte[], int, int, IOContext)}, but for the remaining
+     * content of a ByteBuffer.
+     */
+    protected HoconStreamingParser _createStreamingParser(ByteBuffer data, IOContext ctxt) throws IOException {
+        return _initStreamingParser(new HoconByteBufferParser(ctxt, _streamingParserFeatures(), _objectCodec, data));
+    }
+
+    /**
+     * Files and URLs are parsed using the syntax that matches their extension, so only
+     * those that are parsed as HOCON can be streamed.
+     */
+    protected boolean _isConfSyntax(String name) {
+        return !name.endsWith(".json") && !name.endsWith(".properties");
+    }
+
+    protected ConfigSyntax _syntaxForName(String name) {
+        if (name.endsWith(".json")) {
+            return ConfigSyntax.JSON;
+        }
+        if (name.endsWith(".properties")) {
+            return ConfigSyntax.PROPERTIES;
+        }
+        return ConfigSyntax.CONF;
+    }
+
+    protected boolean _isStreamableURL(URL url) {
+        // Remote content may specify its syntax by content type instead
+        String protocol = url.getProtocol();
+        return ("file".equals(protocol) || "jar".equals(protocol)) && _isConfSyntax(url.getPath());
+    }
+
+    /**
+     * Reads the whole content of the Reader and closes it, the same way the Config parser would.
+     */
+    protected char[] _readContent(Reader r) throws IOException {
+        try {
+            char[] buffer = new char[4000];
+            int len = 0;
+            int count;
+            while ((count = r.read(buffer, len, buffer.length - len)) >= 0) {
+                len += count;
+                if (len == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, len << 1);
+                }
+            }
+            return (len == buffer.length) ? buffer : Arrays.copyOf(buffer, len);
+        } finally {
+            r.close();
+        }
+    }
+
+    /**
+     * Reads the whole content of the InputStream.
+     *
+     * @param close If the stream should be closed afterwards.
+     */
+    protected byte[] _readContent(InputStream in, boolean close) throws IOException {
+        try {
+            byte[] buffer = new byte[8000];
+            int len = 0;
+            int count;
+            while ((count = in.read(buffer, len, buffer.length - len)) >= 0) {
+                len += count;
+                if (len == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, len << 1);
+                }
+            }
+            return (len == buffer.length) ? buffer : Arrays.copyOf(buffer, len);
+        } finally {
+            if (close) {
+                in.close();
+            }
+        }
+    }
+
     protected Reader _createReader(InputStream in, JsonEncoding enc, IOContext ctxt) throws IOException {
         if (enc == null) {
             enc = JsonEncoding.UTF8;
@@ -439,10 +439,8 @@ public class HoconGenerator extends GeneratorBase {
 
     @Override
     public void writeNumber(BigDecimal value) throws IOException {
-        _verifyValueWrite(WRITE_NUMBER);
-        _writeValueSeparator(false);
         if (value == null) {
-            _writeNull();
+            writeNull();
         } else {
             // BigDecimal isn't supported by the parser as is and is converted to double (See: ConfigImpl#fromAnyRef(Object object, ConfigOrigin origin,FromMapMode mapMode))
             writeNumber(value.doubleValue());
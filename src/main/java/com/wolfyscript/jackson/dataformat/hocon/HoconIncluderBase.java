@@ -0,0 +1,158 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigIncluderClasspath;
+import com.typesafe.config.ConfigIncluderFile;
+import com.typesafe.config.ConfigIncluderURL;
+import com.typesafe.config.ConfigObject;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Base of the includers that wrap another includer (the fallback), which actually loads the includes.
+ * Handles the chaining of {@link #withFallback(ConfigIncluder)}, passes each kind of include on to the fallback
+ * the same way the parser would, and resolves the names and local files an include may be read from.
+ */
+public abstract class HoconIncluderBase implements ConfigIncluder, ConfigIncluderFile, ConfigIncluderURL, ConfigIncluderClasspath {
+
+    /**
+     * The extensions that are tried for includes without one, in the order of the default includer.
+     */
+    protected final static List<String> EXTENSIONS = Collections.unmodifiableList(Arrays.asList(".conf", ".json", ".properties"));
+
+    protected final ConfigIncluder _fallback;
+
+    protected HoconIncluderBase(ConfigIncluder fallback) {
+        _fallback = fallback;
+    }
+
+    /**
+     * @return An includer with the same state as this one, but the specified fallback.
+     */
+    protected abstract HoconIncluderBase _withFallback(ConfigIncluder fallback);
+
+    @Override
+    public ConfigIncluder withFallback(ConfigIncluder fallback) {
+        if (fallback == this || fallback == _fallback) {
+            return this;
+        }
+        return _withFallback((_fallback == null) ? fallback : _fallback.withFallback(fallback));
+    }
+
+    /*
+    /**********************************************************
+    /* Fallback
+    /**********************************************************
+     */
+
+    protected ConfigIncluder _fallback() {
+        if (_fallback == null) {
+            throw new IllegalStateException("No fallback includer, the " + getClass().getSimpleName() + " must be set in the ConfigParseOptions");
+        }
+        return _fallback;
+    }
+
+    protected ConfigObject _fallbackInclude(ConfigIncludeContext context, String what) {
+        return _fallback().include(context, what);
+    }
+
+    protected ConfigObject _fallbackIncludeFile(ConfigIncludeContext context, File what) {
+        ConfigIncluder fallback = _fallback();
+        if (fallback instanceof ConfigIncluderFile) {
+            return ((ConfigIncluderFile) fallback).includeFile(context, what);
+        }
+        return ConfigFactory.parseFileAnySyntax(what, context.parseOptions()).root();
+    }
+
+    protected ConfigObject _fallbackIncludeURL(ConfigIncludeContext context, URL what) {
+        ConfigIncluder fallback = _fallback();
+        if (fallback instanceof ConfigIncluderURL) {
+            return ((ConfigIncluderURL) fallback).includeURL(context, what);
+        }
+        return ConfigFactory.parseURL(what, context.parseOptions()).root();
+    }
+
+    protected ConfigObject _fallbackIncludeResources(ConfigIncludeContext context, String what) {
+        ConfigIncluder fallback = _fallback();
+        if (fallback instanceof ConfigIncluderClasspath) {
+            return ((ConfigIncluderClasspath) fallback).includeResources(context, what);
+        }
+        return ConfigFactory.parseResourcesAnySyntax(what, context.parseOptions()).root();
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    /**
+     * @return The names that are tried for the include, as names without a known extension are tried with each of them.
+     */
+    protected static List<String> _candidates(String name) {
+        for (String extension : EXTENSIONS) {
+            if (name.endsWith(extension)) {
+                return Collections.singletonList(name);
+            }
+        }
+        List<String> names = new ArrayList<>(EXTENSIONS.size());
+        for (String extension : EXTENSIONS) {
+            names.add(name + extension);
+        }
+        return names;
+    }
+
+    /**
+     * @return The URL of a heuristic include, or null if it is relative to the including document.
+     */
+    protected static URL _toURL(String what) {
+        try {
+            return new URL(what);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The local file that contains the content of the URL, or null if there is none.
+     */
+    protected static File _localFile(URL url) {
+        try {
+            return HoconConfigCache._localFile(url);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds the local files of all resources of the name, as all of them are included by the default includer.
+     *
+     * @return true if all the resources are local files.
+     */
+    protected static boolean _addLocalResources(String name, ClassLoader loader, List<File> files) {
+        try {
+            Enumeration<URL> resources = loader.getResources(name);
+            boolean local = true;
+            while (resources.hasMoreElements()) {
+                File f = _localFile(resources.nextElement());
+                if (f == null) {
+                    local = false;
+                } else {
+                    files.add(f);
+                }
+            }
+            return local;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
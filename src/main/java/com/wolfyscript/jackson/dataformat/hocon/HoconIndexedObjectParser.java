@@ -0,0 +1,60 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Capability of a parser to read numerically indexed objects (like {@code { 0 = a, 1 = b }}) in the order of
+ * their indexes, for deserializers that read them as arrays or collections.<br>
+ * Implemented by the {@link HoconTreeTraversingParser}: it holds the complete object, so it can sort the keys
+ * itself, instead of every deserializer collecting the values into a sorted map first.
+ */
+public interface HoconIndexedObjectParser {
+
+    /**
+     * Orders the entries of the object that starts at the current {@code START_OBJECT} token by their index.<br>
+     * If successful, the following entries of the object only contain the keys that are indexes
+     * (see {@link #parseIndex(String)}), in ascending order and each index once; the other keys are skipped.
+     *
+     * @return true if the entries are ordered; false if the object is read as usual, for example because
+     * the parser is not on a {@code START_OBJECT} token.
+     */
+    boolean orderIndexedEntries() throws IOException;
+
+    /**
+     * Orders the entries of the object, if the parser is capable of it.
+     *
+     * @return true if the entries are ordered, see {@link #orderIndexedEntries()}.
+     */
+    static boolean tryOrderIndexedEntries(JsonParser p) throws IOException {
+        return (p instanceof HoconIndexedObjectParser) && ((HoconIndexedObjectParser) p).orderIndexedEntries();
+    }
+
+    /**
+     * Parses the key of a numerically indexed object, without throwing an exception for keys that are no index.<br>
+     * Accepts decimal digits only, up to {@link Integer#MAX_VALUE}; a sign, even in {@code +5} or {@code -0},
+     * makes the key no index. Leading zeros are accepted ({@code 01} is index 1), as indexed objects have always
+     * been read like that, unlike the indexes of a {@link com.fasterxml.jackson.core.JsonPointer}
+     * (see {@link HoconMapper#readValueAt}).
+     *
+     * @return The index, or -1 if the key is not one.
+     */
+    static int parseIndex(String key) {
+        int len = key.length();
+        if (len == 0) {
+            return -1;
+        }
+        long index = 0;
+        for (int i = 0; i < len; ++i) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+            if (index > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) index;
+    }
+}
@@ -1,16 +1,75 @@
 package com.wolfyscript.jackson.dataformat.hocon;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.MapDeserializer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
 import com.wolfyscript.jackson.dataformat.hocon.deserialization.HoconBeanDeserializerModifier;
+import com.wolfyscript.jackson.dataformat.hocon.deserialization.HoconValueInstantiators;
 import com.wolfyscript.jackson.dataformat.hocon.deserialization.ModifiedPrimitiveArrayDeserializers;
 import com.wolfyscript.jackson.dataformat.hocon.deserialization.ModifiedStringArrayDeserializer;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class HoconMapper extends ObjectMapper {
 
     private static final Class<?>[] PRIMITIVE_ARRAY_TYPES = new Class[] { boolean[].class, byte[].class, char[].class, double[].class, float[].class, int[].class, long[].class, short[].class };
 
+    protected boolean _directBinding;
+
+    /**
+     * Deserializers of beans that {@link HoconTreeBinder} can bind directly; see {@link #setDirectBinding(boolean)}.
+     */
+    protected final Map<JsonDeserializer<?>, Boolean> _directlyBindable = new ConcurrentHashMap<>();
+
     public HoconMapper() {
         this(new HoconFactory());
     }
@@ -23,6 +82,7 @@ public class HoconMapper extends ObjectMapper {
     private void initHoconModul() {
         SimpleModule module = new SimpleModule();
         module.setDeserializerModifier(new HoconBeanDeserializerModifier());
+        module.setValueInstantiators(new HoconValueInstantiators());
         module.addDeserializer(String[].class, ModifiedStringArrayDeserializer.instance);
         for (Class<?> primitiveArrayType : PRIMITIVE_ARRAY_TYPES) {
             addPrimitiveArrayDeserializer(module, primitiveArrayType);
@@ -34,5 +94,933 @@ public class HoconMapper extends ObjectMapper {
         module.addDeserializer(arrayType, (JsonDeserializer<? extends T>) ModifiedPrimitiveArrayDeserializers.forType(arrayType.getComponentType()));
     }
 
+    @Override
+    public HoconFactory getFactory() {
+        return (HoconFactory) _jsonFactory;
+    }
+
+    /**
+     * Binds documents that are parsed into a Config tree straight from the tree (see {@link HoconTreeBinder}),
+     * instead of from the tokens of a {@link HoconTreeTraversingParser}.
+     * Disabled by default.<br>
+     * Applies to the readValue methods that are given the source of the document, not a parser.
+     */
+    public HoconMapper setDirectBinding(boolean state) {
+        _directBinding = state;
+        return this;
+    }
+
+    public boolean isDirectBinding() {
+        return _directBinding;
+    }
+
+    @Override
+    protected Object _readMapAndClose(JsonParser p0, JavaType valueType) throws IOException {
+        DeserializationConfig cfg = getDeserializationConfig();
+        if (_directBinding && p0 instanceof HoconTreeTraversingParser && !p0.hasCurrentToken() && !cfg.useRootWrapping()) {
+            DeserializationContext ctxt = createDeserializationContext(p0, cfg);
+            Object result;
+            try {
+                result = new HoconTreeBinder(ctxt, (HoconTreeTraversingParser) p0, _directlyBindable).bindRoot(_findRootDeserializer(ctxt, valueType));
+            } catch (IOException | RuntimeException e) {
+                p0.close();
+                throw e;
+            }
+            if (result != null) {
+                p0.close();
+                return result;
+            }
+            // the parser has not been moved, so it can be read as usual
+        }
+        return super._readMapAndClose(p0, valueType);
+    }
+
+    /*
+    /**********************************************************
+    /* Source based reading, see HoconReadFeature#STRICT_STREAMING_PARSER
+    /**********************************************************
+     */
+
+    /**
+     * @return The parser that the read methods use for the content: a streaming parser if
+     * {@link HoconReadFeature#STRICT_STREAMING_PARSER} is enabled, otherwise one that traverses the Config tree.
+     */
+    protected JsonParser _createParser(String content) throws IOException {
+        HoconFactory f = getFactory();
+        return f.isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) ? f.createStreamingParser(content) : f.createParser(content);
+    }
+
+    protected JsonParser _createParser(Reader src) throws IOException {
+        HoconFactory f = getFactory();
+        return f.isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) ? f.createStreamingParser(src) : f.createParser(src);
+    }
+
+    protected JsonParser _createParser(InputStream src) throws IOException {
+        HoconFactory f = getFactory();
+        return f.isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) ? f.createStreamingParser(src) : f.createParser(src);
+    }
+
+    protected JsonParser _createParser(byte[] src, int offset, int len) throws IOException {
+        HoconFactory f = getFactory();
+        return f.isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) ? f.createStreamingParser(src, offset, len) : f.createParser(src, offset, len);
+    }
+
+    protected JsonParser _createParser(File src) throws IOException {
+        HoconFactory f = getFactory();
+        return f._isStreamed(src.toPath()) ? f.createStreamingParser(src) : f.createParser(src);
+    }
+
+    protected JsonParser _createParser(Path src) throws IOException {
+        HoconFactory f = getFactory();
+        return f._isStreamed(src) ? f.createStreamingParser(src) : f.createParser(src);
+    }
+
+    protected JsonParser _createParser(URL src) throws IOException {
+        HoconFactory f = getFactory();
+        return f._isStreamed(src) ? f.createStreamingParser(src) : f.createParser(src);
+    }
+
+    @Override
+    public JsonNode readTree(InputStream in) throws IOException {
+        _assertNotNull("in", in);
+        return _readTreeAndClose(_createParser(in));
+    }
+
+    @Override
+    public JsonNode readTree(Reader r) throws IOException {
+        _assertNotNull("r", r);
+        return _readTreeAndClose(_createParser(r));
+    }
+
+    @Override
+    public JsonNode readTree(String content) throws JsonProcessingException, JsonMappingException {
+        _assertNotNull("content", content);
+        try {
+            return _readTreeAndClose(_createParser(content));
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) { // shouldn't really happen but being declared need to
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+    }
+
+    @Override
+    public JsonNode readTree(byte[] content) throws IOException {
+        _assertNotNull("content", content);
+        return _readTreeAndClose(_createParser(content, 0, content.length));
+    }
+
+    @Override
+    public JsonNode readTree(byte[] content, int offset, int len) throws IOException {
+        _assertNotNull("content", content);
+        return _readTreeAndClose(_createParser(content, offset, len));
+    }
+
+    @Override
+    public JsonNode readTree(File file) throws IOException {
+        _assertNotNull("file", file);
+        return _readTreeAndClose(_createParser(file));
+    }
+
+    @Override
+    public JsonNode readTree(URL source) throws IOException {
+        _assertNotNull("source", source);
+        return _readTreeAndClose(_createParser(source));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(File src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(File src, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueTypeRef));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(File src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), valueType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(URL src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(URL src, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueTypeRef));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(URL src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), valueType);
+    }
+
+    /**
+     * The other readValue methods for Strings delegate to this one.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(String content, JavaType valueType) throws JsonProcessingException, JsonMappingException {
+        _assertNotNull("content", content);
+        try {
+            return (T) _readMapAndClose(_createParser(content), valueType);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) { // shouldn't really happen but being declared need to
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Reader src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Reader src, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueTypeRef));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Reader src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), valueType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(InputStream src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(InputStream src, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueTypeRef));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(InputStream src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), valueType);
+    }
+
+    @Override
+    public <T> T readValue(byte[] src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return readValue(src, 0, src.length, _typeFactory.constructType(valueType));
+    }
+
+    @Override
+    public <T> T readValue(byte[] src, int offset, int len, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        return readValue(src, offset, len, _typeFactory.constructType(valueType));
+    }
+
+    @Override
+    public <T> T readValue(byte[] src, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return readValue(src, 0, src.length, _typeFactory.constructType(valueTypeRef));
+    }
+
+    @Override
+    public <T> T readValue(byte[] src, int offset, int len, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        return readValue(src, offset, len, _typeFactory.constructType(valueTypeRef));
+    }
+
+    @Override
+    public <T> T readValue(byte[] src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return readValue(src, 0, src.length, valueType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(byte[] src, int offset, int len, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src, offset, len), valueType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Path src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueType));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Path src, TypeReference<T> valueTypeRef) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), _typeFactory.constructType(valueTypeRef));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(Path src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(_createParser(src), valueType);
+    }
+
+    public JsonNode readTree(Path src) throws IOException {
+        _assertNotNull("src", src);
+        return _readTreeAndClose(_createParser(src));
+    }
+
+    /*
+    /**********************************************************
+    /* Config tree reading
+    /**********************************************************
+     */
+
+    public <T> T readValue(ConfigObject src, Class<T> valueType) throws IOException, StreamReadException, DatabindException {
+        return readValue(src, _typeFactory.constructType(valueType));
+    }
+
+    /**
+     * Binds an already parsed and resolved Config tree; straight from the tree if
+     * {@link #setDirectBinding(boolean) direct binding} is enabled.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(ConfigObject src, JavaType valueType) throws IOException, StreamReadException, DatabindException {
+        _assertNotNull("src", src);
+        return (T) _readMapAndClose(getFactory()._createTreeParser(src), valueType);
+    }
+
+    /*
+    /**********************************************************
+    /* Path targeted reading
+    /**********************************************************
+     */
+
+    /**
+     * Same as {@link #readValueAt(JsonParser, JsonPointer, JavaType)}, with a HOCON path like {@code service.database}.
+     */
+    public <T> T readValueAt(File src, String path, Class<T> valueType) throws IOException {
+        _assertNotNull("src", src);
+        return readValueAt(_createParser(src), pointerFor(path), _typeFactory.constructType(valueType));
+    }
+
+    public <T> T readValueAt(File src, JsonPointer pointer, Class<T> valueType) throws IOException {
+        _assertNotNull("src", src);
+        return readValueAt(_createParser(src), pointer, _typeFactory.constructType(valueType));
+    }
+
+    /**
+     * Same as {@link #readValueAt(JsonParser, JsonPointer, JavaType)}, with a HOCON path like {@code service.database}.
+     */
+    public <T> T readValueAt(Path src, String path, Class<T> valueType) throws IOException {
+        _assertNotNull("src", src);
+        return readValueAt(_createParser(src), pointerFor(path), _typeFactory.constructType(valueType));
+    }
+
+    public <T> T readValueAt(Path src, JsonPointer pointer, Class<T> valueType) throws IOException {
+        _assertNotNull("src", src);
+        return readValueAt(_createParser(src), pointer, _typeFactory.constructType(valueType));
+    }
+
+    /**
+     * Same as {@link #readValueAt(JsonParser, JsonPointer, JavaType)}, with a HOCON path like {@code service.database}.
+     */
+    public <T> T readValueAt(URL src, String path, Class<T> valueType) throws IOException {
+        _assertNotNull("src", src);
+        return readValueAt(_createParser(src), pointerFor(path), _typeFactory.constructType(valueType));
+    }
+
+    public <T> T readValueAt(URL src, JsonPointer pointer, Class<T> valueType) throws IOException {
+        _assertNotNull("src", src);
+        return readValueAt(_createParser(src), pointer, _typeFactory.constructType(valueType));
+    }
+
+    /**
+     * Same as {@link #readValueAt(JsonParser, JsonPointer, JavaType)}, with a HOCON path like {@code service.database}.
+     */
+    public <T> T readValueAt(String content, String path, Class<T> valueType) throws IOException {
+        _assertNotNull("content", content);
+        return readValueAt(_createParser(content), pointerFor(path), _typeFactory.constructType(valueType));
+    }
+
+    public <T> T readValueAt(String content, JsonPointer pointer, Class<T> valueType) throws IOException {
+        _assertNotNull("content", content);
+        return readValueAt(_createParser(content), pointer, _typeFactory.constructType(valueType));
+    }
+
+    /**
+     * Reads only the value at the pointer, as if it was the whole document; the parser is closed afterwards.<br>
+     * Documents that are parsed into a Config tree are read from the value in the tree, so the other values are
+     * never turned into tokens. Streamed documents are filtered, so the other values are only skipped.<br>
+     * Paths in errors are relative to the value.
+     *
+     * @throws MismatchedInputException If there is no value at the pointer, for tree parsers and streaming parsers alike.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValueAt(JsonParser p, JsonPointer pointer, JavaType valueType) throws IOException {
+        _assertNotNull("p", p);
+        _assertNotNull("pointer", pointer);
+        if (p instanceof HoconTreeTraversingParser && !p.hasCurrentToken()) {
+            HoconTreeTraversingParser treeParser = (HoconTreeTraversingParser) p;
+            ConfigValue value = _valueAt(treeParser.getRootValue(), pointer);
+            p.close();
+            if (value == null) {
+                throw _missingValueAt(pointer, valueType);
+            }
+            return (T) _readMapAndClose(new HoconTreeTraversingParser(treeParser.getConfigObject(), value, this, treeParser.getFormatFeatures()), valueType);
+        }
+        if (pointer.matches()) {
+            return (T) _readMapAndClose(p, valueType);
+        }
+        JsonParser filtered = new FilteringParserDelegate(p, new JsonPointerBasedFilter(pointer), TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+        if (filtered.nextToken() == null) {
+            filtered.close();
+            throw _missingValueAt(pointer, valueType);
+        }
+        return (T) _readMapAndClose(filtered, valueType);
+    }
+
+    protected MismatchedInputException _missingValueAt(JsonPointer pointer, JavaType valueType) {
+        return MismatchedInputException.from((JsonParser) null, valueType, "No value at `" + pointer + "` to read as " + valueType);
+    }
+
+    public Map<String, Object> readValuesAt(File src, HoconPathSelector selector) throws IOException {
+        _assertNotNull("src", src);
+        return readValuesAt(_createParser(src), selector);
+    }
+
+    public Map<String, Object> readValuesAt(Path src, HoconPathSelector selector) throws IOException {
+        _assertNotNull("src", src);
+        return readValuesAt(_createParser(src), selector);
+    }
+
+    public Map<String, Object> readValuesAt(URL src, HoconPathSelector selector) throws IOException {
+        _assertNotNull("src", src);
+        return readValuesAt(_createParser(src), selector);
+    }
+
+    public Map<String, Object> readValuesAt(String content, HoconPathSelector selector) throws IOException {
+        _assertNotNull("content", content);
+        return readValuesAt(_createParser(content), selector);
+    }
+
+    /**
+     * Reads all values of the selector in a single pass over the document; the parser is closed afterwards.<br>
+     * Documents that are parsed into a Config tree are only looked up along the keys of the selected paths, and
+     * each selected value is read from the tree like {@link #readValueAt(JsonParser, JsonPointer, JavaType)} does.
+     * Streamed documents are read once, skipping all values that are not on the way to a selected value,
+     * and stop once all values are found.
+     *
+     * @return The values by the path they were selected with, in the order of the selector.
+     * Paths without a value are left out.
+     */
+    public Map<String, Object> readValuesAt(JsonParser p, HoconPathSelector selector) throws IOException {
+        _assertNotNull("p", p);
+        _assertNotNull("selector", selector);
+        Map<String, Object> found = new HashMap<>();
+        try (JsonParser parser = p) {
+            if (selector.size() == 0) {
+                return Collections.emptyMap();
+            }
+            if (parser instanceof HoconTreeTraversingParser && !parser.hasCurrentToken()) {
+                HoconTreeTraversingParser treeParser = (HoconTreeTraversingParser) parser;
+                _selectTree(treeParser, treeParser.getRootValue(), selector.getRoot(), found);
+            } else if (parser.hasCurrentToken() || parser.nextToken() != null) {
+                _selectStream(createDeserializationContext(parser, getDeserializationConfig()), parser, selector.getRoot(), found, selector.size());
+            }
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String path : selector.getPaths()) {
+            if (found.containsKey(path)) {
+                values.put(path, found.get(path));
+            }
+        }
+        return values;
+    }
+
+    protected void _selectTree(HoconTreeTraversingParser p, ConfigValue value, HoconPathSelector.Node node, Map<String, Object> found) throws IOException {
+        if (node.getPath() != null) {
+            JsonParser valueParser = new HoconTreeTraversingParser(p.getConfigObject(), value, this, p.getFormatFeatures());
+            found.put(node.getPath(), _readMapAndClose(valueParser, _typeFactory.constructType(node.getType())));
+        }
+        for (Map.Entry<String, HoconPathSelector.Node> child : node.getChildren().entrySet()) {
+            ConfigValue childValue = _childValue(value, child.getKey());
+            if (childValue != null) {
+                _selectTree(p, childValue, child.getValue(), found);
+            }
+        }
+    }
+
+    /**
+     * Reads the selected values of the value the parser is at, leaving the parser at the last token of the value.
+     *
+     * @return true if all values were found, so the rest of the document can be skipped.
+     */
+    protected boolean _selectStream(DeserializationContext ctxt, JsonParser p, HoconPathSelector.Node node, Map<String, Object> found, int total) throws IOException {
+        if (node.getPath() != null) {
+            JavaType valueType = _typeFactory.constructType(node.getType());
+            if (!node.hasChildren() || !p.currentToken().isStructStart()) {
+                found.put(node.getPath(), _readSelected(ctxt, p, valueType));
+                return found.size() == total;
+            }
+            // the values below this one are selected as well, so the tokens of the value are needed twice
+            TokenBuffer buffer = ctxt.bufferAsCopyOfValue(p);
+            try (JsonParser bufferParser = buffer.asParserOnFirstToken()) {
+                found.put(node.getPath(), _readSelected(createDeserializationContext(bufferParser, getDeserializationConfig()), bufferParser, valueType));
+            }
+            try (JsonParser bufferParser = buffer.asParserOnFirstToken()) {
+                return _selectStreamChildren(createDeserializationContext(bufferParser, getDeserializationConfig()), bufferParser, node, found, total);
+            }
+        }
+        return _selectStreamChildren(ctxt, p, node, found, total);
+    }
+
+    protected boolean _selectStreamChildren(DeserializationContext ctxt, JsonParser p, HoconPathSelector.Node node, Map<String, Object> found, int total) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                HoconPathSelector.Node child = node.getChild(p.currentName());
+                p.nextToken();
+                if (child == null) {
+                    p.skipChildren();
+                } else if (_selectStream(ctxt, p, child, found, total)) {
+                    return true;
+                }
+            }
+        } else if (t == JsonToken.START_ARRAY) {
+            for (int i = 0; p.nextToken() != JsonToken.END_ARRAY; ++i) {
+                HoconPathSelector.Node child = node.getChild(String.valueOf(i));
+                if (child == null) {
+                    p.skipChildren();
+                } else if (_selectStream(ctxt, p, child, found, total)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    protected Object _readSelected(DeserializationContext ctxt, JsonParser p, JavaType valueType) throws IOException {
+        JsonDeserializer<Object> deserializer = _findRootDeserializer(ctxt, valueType);
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return deserializer.getNullValue(ctxt);
+        }
+        return deserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * @return The pointer to the value at the HOCON path, see {@link ConfigUtil#splitPath(String)}.
+     */
+    public static JsonPointer pointerFor(String path) {
+        StringBuilder pointer = new StringBuilder();
+        for (String key : ConfigUtil.splitPath(path)) {
+            pointer.append('/').append(key.replace("~", "~0").replace("/", "~1"));
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    /**
+     * @return The value at the pointer, or null if there is none.
+     */
+    protected ConfigValue _valueAt(ConfigValue value, JsonPointer pointer) {
+        for (JsonPointer ptr = pointer; value != null && !ptr.matches(); ptr = ptr.tail()) {
+            value = _childValue(value, ptr.getMatchingProperty());
+        }
+        return value;
+    }
+
+    /**
+     * @return The value of the key in an object, or at the index in a list; null if there is none.
+     */
+    protected ConfigValue _childValue(ConfigValue value, String key) {
+        if (value instanceof ConfigObject) {
+            return ((ConfigObject) value).get(key);
+        }
+        if (value instanceof ConfigList) {
+            int index = _parseIndex(key);
+            return (index >= 0 && index < ((ConfigList) value).size()) ? ((ConfigList) value).get(index) : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return The index, or -1 if the key is not one. These are the same indexes a {@link JsonPointer} matches,
+     * which, unlike the keys of numerically indexed objects (see {@link HoconIndexedObjectParser#parseIndex(String)}),
+     * have no leading zeros.
+     */
+    protected int _parseIndex(String key) {
+        if (key.length() > 1 && key.charAt(0) == '0') {
+            return -1;
+        }
+        return HoconIndexedObjectParser.parseIndex(key);
+    }
+
+    /*
+    /**********************************************************
+    /* Config tree writing
+    /**********************************************************
+     */
+
+    /**
+     * Converts a value into a Config tree, by serializing it with a {@link HoconConfigGenerator}; without
+     * writing it as text and parsing it again. Config values are returned as they are.<br>
+     * The result can be merged with parsed documents, e.g. as their fallback to provide defaults:
+     * <pre>config.withFallback(mapper.valueToConfig(defaults))</pre>
+     *
+     * @return The Config tree of the value, usually a {@link ConfigObject}; null if the value is null.
+     * @throws IllegalArgumentException If the value can not be serialized.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ConfigValue> T valueToConfig(Object fromValue) throws IllegalArgumentException {
+        if (fromValue == null) {
+            return null;
+        }
+        if (fromValue instanceof Config) {
+            fromValue = ((Config) fromValue).root();
+        }
+        if (fromValue instanceof ConfigValue) {
+            return (T) fromValue;
+        }
+        SerializationConfig config = getSerializationConfig().without(SerializationFeature.WRAP_ROOT_VALUE);
+        HoconConfigGenerator g = new HoconConfigGenerator(getFactory().getGeneratorFeatures(), this, fromValue.getClass().getName());
+        config.initialize(g);
+        try {
+            _serializerProvider(config).serializeValue(g, fromValue);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        return (T) g.getConfigValue();
+    }
+
+    /*
+    /**********************************************************
+    /* Tree model, see HoconNodes
+    /**********************************************************
+     */
+
+    /**
+     * @return The converter between Config trees and JsonNodes, as configured for this mapper.
+     */
+    public HoconNodes getHoconNodes() {
+        return new HoconNodes(getNodeFactory(), isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+    }
+
+    /**
+     * Documents that are parsed into a Config tree are returned as a view of that tree (see {@link HoconObjectNode}),
+     * instead of being copied into a new tree of nodes.
+     */
+    @Override
+    protected JsonNode _readTreeAndClose(JsonParser p0) throws IOException {
+        if (p0 instanceof HoconTreeTraversingParser && !p0.hasCurrentToken()) {
+            try (JsonParser p = p0) {
+                return getHoconNodes().toNode(((HoconTreeTraversingParser) p).getRootValue());
+            }
+        }
+        return super._readTreeAndClose(p0);
+    }
+
+    /**
+     * Config values ({@link ConfigValue}s and {@link Config}s) are converted directly into a view of
+     * the value, see {@link HoconNodes#toNode(ConfigValue)}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonNode> T valueToTree(Object fromValue) throws IllegalArgumentException {
+        if (fromValue instanceof Config) {
+            fromValue = ((Config) fromValue).root();
+        }
+        if (fromValue instanceof ConfigValue) {
+            return (T) getHoconNodes().toNode((ConfigValue) fromValue);
+        }
+        return super.valueToTree(fromValue);
+    }
+
+    /**
+     * Nodes are converted directly into Config values ({@link ConfigValue}s and {@link Config}s), see
+     * {@link HoconNodes#toConfigValue(JsonNode, String)}.
+     */
+    @Override
+    public <T> T treeToValue(TreeNode n, Class<T> valueType) throws IllegalArgumentException, JsonProcessingException {
+        if (n instanceof JsonNode && _isConfigType(valueType)) {
+            return _treeToConfig((JsonNode) n, valueType);
+        }
+        return super.treeToValue(n, valueType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T treeToValue(TreeNode n, JavaType valueType) throws IllegalArgumentException, JsonProcessingException {
+        if (n instanceof JsonNode && valueType != null && _isConfigType(valueType.getRawClass())) {
+            return (T) _treeToConfig((JsonNode) n, valueType.getRawClass());
+        }
+        return super.treeToValue(n, valueType);
+    }
+
+    protected boolean _isConfigType(Class<?> type) {
+        return type == Config.class || ConfigValue.class.isAssignableFrom(type);
+    }
+
+    protected <T> T _treeToConfig(JsonNode node, Class<T> valueType) throws JsonProcessingException {
+        ConfigValue value = HoconNodes.toConfigValue(node, "JsonNode");
+        Object result = (valueType == Config.class && value instanceof ConfigObject) ? ((ConfigObject) value).toConfig() : value;
+        if (!valueType.isInstance(result)) {
+            throw MismatchedInputException.from((JsonParser) null, valueType, "Can not convert " + node.getNodeType() + " node to " + valueType.getName());
+        }
+        return valueType.cast(result);
+    }
+
+    /*
+    /**********************************************************
+    /* Batch reading
+    /**********************************************************
+     */
+
+    /**
+     * Reads all files in parallel on a dedicated executor, see {@link #readValues(Collection, JavaType)}.
+     */
+    public <T> List<HoconReadResult<T>> readValues(Collection<Path> srcs, Class<T> valueType) {
+        return readValues(srcs, _typeFactory.constructType(valueType));
+    }
+
+    /**
+     * Reads all files in parallel on a dedicated executor, that has at most one thread per available processor
+     * and is shut down once all files are read. Unlike the common {@link ForkJoinPool}, the
+     * threads may block on I/O without starving other tasks of the application.
+     * Same as {@link #readValues(Collection, JavaType, Executor)}.
+     */
+    public <T> List<HoconReadResult<T>> readValues(Collection<Path> srcs, JavaType valueType) {
+        _assertNotNull("srcs", srcs);
+        if (srcs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int threads = Math.min(srcs.size(), Runtime.getRuntime().availableProcessors());
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "HoconMapper readValues " + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            return readValues(srcs, valueType, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public <T> List<HoconReadResult<T>> readValues(Collection<Path> srcs, Class<T> valueType, Executor executor) {
+        return readValues(srcs, _typeFactory.constructType(valueType), executor);
+    }
+
+    /**
+     * Reads all files in parallel, each one the same way as {@link #readValue(Path, JavaType)}.<br>
+     * Errors are collected per file, so a file that can not be read does not prevent the others from being read.
+     *
+     * @param executor Reads the files; as reading blocks on I/O, an executor with more threads than cores
+     *                 may be faster for slow storage.
+     * @return The results in the order of the files.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<HoconReadResult<T>> readValues(Collection<Path> srcs, JavaType valueType, Executor executor) {
+        _assertNotNull("srcs", srcs);
+        _assertNotNull("executor", executor);
+        List<CompletableFuture<HoconReadResult<T>>> futures = new ArrayList<>(srcs.size());
+        for (Path src : srcs) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return HoconReadResult.success(src, (T) readValue(src, valueType));
+                } catch (IOException | RuntimeException e) {
+                    return HoconReadResult.failure(src, e);
+                }
+            }, executor));
+        }
+        List<HoconReadResult<T>> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<HoconReadResult<T>> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /*
+    /**********************************************************
+    /* Incremental updating
+    /**********************************************************
+     */
+
+    /**
+     * Same as {@link #rebind(Object, JavaType, ConfigObject, ConfigObject)}, using the runtime type of the value.
+     */
+    public <T> T rebind(T existing, ConfigObject oldRoot, ConfigObject newRoot) throws IOException {
+        _assertNotNull("existing", existing);
+        return rebind(existing, _typeFactory.constructType(existing.getClass()), oldRoot, newRoot);
+    }
+
+    /**
+     * Updates a value that was bound from {@code oldRoot}, so that it matches {@code newRoot}.<br>
+     * Instead of binding the whole new tree, the two trees are compared and only the values that changed are
+     * bound into the existing value (see {@link #readerForUpdating(Object)}). Objects that changed are descended
+     * into as long as the existing value has a matching bean, or {@link Map}, to update; values that
+     * can not be updated in place, like lists, scalars or immutable beans, are bound again as a whole.<br>
+     * As updating can not unset a property, an object that lost keys is bound again as a whole as well.<br>
+     * All changed values are bound before any of them is applied, so if one of them can not be bound, the
+     * exception is thrown with {@code existing} left untouched.
+     *
+     * @param existing  The value that was bound from {@code oldRoot}; updated in place.
+     * @param valueType The type the value was bound as.
+     * @return The updated value; {@code existing}, unless it had to be bound again as a whole.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T rebind(T existing, JavaType valueType, ConfigObject oldRoot, ConfigObject newRoot) throws IOException {
+        _assertNotNull("existing", existing);
+        _assertNotNull("oldRoot", oldRoot);
+        _assertNotNull("newRoot", newRoot);
+        DeserializationContext ctxt = createDeserializationContext(null, getDeserializationConfig());
+        List<RebindUpdate> updates = new ArrayList<>();
+        if (!_rebind(ctxt, existing, valueType, oldRoot, newRoot, updates)) {
+            try (JsonParser p = new HoconTreeTraversingParser(newRoot, this, getFactory().getFormatParserFeatures())) {
+                return (T) readValue(p, valueType);
+            }
+        }
+        // only once everything is bound
+        for (RebindUpdate update : updates) {
+            update.apply();
+        }
+        return existing;
+    }
+
+    /**
+     * Binds the changed values of the object, and adds them to the updates, instead of applying them.
+     *
+     * @return false if the value could not be updated, in which case the caller removes the updates that were
+     * added for it.
+     */
+    protected boolean _rebind(DeserializationContext ctxt, Object existing, JavaType valueType, ConfigObject oldObject, ConfigObject newObject,
+                              List<RebindUpdate> updates) throws IOException {
+        if (!newObject.keySet().containsAll(oldObject.keySet()) || !_isUpdatable(ctxt, existing, valueType)) {
+            return false;
+        }
+        BeanDeserializerBase beanDeserializer = (existing instanceof Map) ? null : (BeanDeserializerBase) ctxt.findRootValueDeserializer(valueType);
+        Map<String, ConfigValue> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, ConfigValue> entry : newObject.entrySet()) {
+            ConfigValue oldValue = oldObject.get(entry.getKey());
+            ConfigValue newValue = entry.getValue();
+            if (newValue.equals(oldValue)) {
+                continue;
+            }
+            if (oldValue instanceof ConfigObject && newValue instanceof ConfigObject) {
+                BeanPropertyDefinition property = null;
+                Object child;
+                JavaType childType;
+                if (existing instanceof Map) {
+                    child = ((Map<?, ?>) existing).get(entry.getKey());
+                    childType = valueType.getContentType();
+                } else {
+                    property = _findProperty(valueType, entry.getKey());
+                    child = (property != null) ? property.getAccessor().getValue(existing) : null;
+                    childType = (property != null) ? property.getPrimaryType() : null;
+                }
+                if (child != null && childType != null) {
+                    int size = updates.size();
+                    if (_rebind(ctxt, child, childType, (ConfigObject) oldValue, (ConfigObject) newValue, updates)) {
+                        continue;
+                    }
+                    // drop what the child added before it gave up, as it is bound again as a whole
+                    updates.subList(size, updates.size()).clear();
+                }
+            }
+            if (beanDeserializer != null && beanDeserializer.findProperty(entry.getKey()) == null) {
+                // ignored, unknown or any-setter keys are handled by binding the object as a whole
+                return false;
+            }
+            changed.put(entry.getKey(), newValue);
+        }
+        int formatFeatures = getFactory().getFormatParserFeatures();
+        for (Map.Entry<String, ConfigValue> entry : changed.entrySet()) {
+            try (JsonParser p = new HoconTreeTraversingParser(newObject, entry.getValue(), this, formatFeatures)) {
+                p.nextToken();
+                if (beanDeserializer == null) {
+                    Object value = readerFor(valueType.getContentType()).readValue(p);
+                    updates.add(new RebindUpdate(existing, null, entry.getKey(), value));
+                } else {
+                    SettableBeanProperty property = beanDeserializer.findProperty(entry.getKey());
+                    DeserializationContext valueCtxt = createDeserializationContext(p, getDeserializationConfig());
+                    updates.add(new RebindUpdate(existing, property, entry.getKey(), property.deserialize(p, valueCtxt)));
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A bound value of {@link #rebind(Object, JavaType, ConfigObject, ConfigObject)}, that is set once all
+     * values are bound.
+     */
+    protected static final class RebindUpdate {
+        final Object target;
+        /**
+         * The property to set, or null if the target is a {@link Map}.
+         */
+        final SettableBeanProperty property;
+        final String key;
+        final Object value;
+
+        RebindUpdate(Object target, SettableBeanProperty property, String key, Object value) {
+            this.target = target;
+            this.property = property;
+            this.key = key;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        void apply() throws IOException {
+            if (property == null) {
+                ((Map<String, Object>) target).put(key, value);
+            } else {
+                property.set(target, value);
+            }
+        }
+    }
+
+    protected boolean _isUpdatable(DeserializationContext ctxt, Object value, JavaType valueType) throws IOException {
+        if (!valueType.getRawClass().isInstance(value)) {
+            return false;
+        }
+        JsonDeserializer<?> deserializer = ctxt.findRootValueDeserializer(valueType);
+        if (deserializer instanceof MapDeserializer) {
+            // the keys of the ConfigObject are put as they are
+            Class<?> keyType = valueType.getKeyType().getRawClass();
+            return keyType == String.class || keyType == Object.class;
+        }
+        // creator properties can only be passed to a new instance
+        return deserializer instanceof BeanDeserializerBase && !((BeanDeserializerBase) deserializer).getValueInstantiator().canCreateFromObjectWith();
+    }
+
+    /**
+     * @return The property of the bean for the given key, if its current value can be read.
+     */
+    protected BeanPropertyDefinition _findProperty(JavaType beanType, String key) {
+        for (BeanPropertyDefinition property : getDeserializationConfig().introspect(beanType).findProperties()) {
+            if (property.getName().equals(key) && property.getAccessor() != null) {
+                property.getAccessor().fixAccess(isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS));
+                return property;
+            }
+        }
+        return null;
+    }
 
 }
@@ -6,8 +6,10 @@ import com.typesafe.config.ConfigList;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
 
 public abstract class HoconNodeCursor extends JsonStreamContext {
 
@@ -15,7 +17,12 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
      * Parent cursor of this cursor, if any; null for root
      * cursors.
      */
-    protected final HoconNodeCursor _parent;
+    protected HoconNodeCursor _parent;
+
+    /**
+     * Number of parents of this cursor; 0 for root cursors.
+     */
+    protected int _depth;
 
     /**
      * Current field name
@@ -27,6 +34,18 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
     public HoconNodeCursor(int contextType, HoconNodeCursor p) {
         super(contextType, -1);
         _parent = p;
+        _depth = (p == null) ? 0 : p._depth + 1;
+    }
+
+    /**
+     * Prepares this cursor to be used again, with a new parent, as if it was just created.
+     */
+    protected void _reset(HoconNodeCursor p) {
+        _parent = p;
+        _depth = (p == null) ? 0 : p._depth + 1;
+        _index = -1;
+        _currentName = null;
+        _currentValue = null;
     }
 
     /*
@@ -84,8 +103,22 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
         }
     }
 
+    /**
+     * @return The number of parents of this cursor; 0 for root cursors.
+     */
+    public int getDepth() {
+        return _depth;
+    }
+
     public abstract JsonToken nextToken();
 
+    /**
+     * @return The number of elements of the array, or entries of the object, of this cursor; -1 if it is neither.
+     */
+    public int containerSize() {
+        return -1;
+    }
+
     public abstract ConfigValue currentNode();
 
     public abstract HoconNodeCursor startObject();
@@ -136,6 +169,13 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
             _node = n;
         }
 
+        public RootValue reset(ConfigValue n) {
+            _reset(null);
+            _node = n;
+            _done = false;
+            return this;
+        }
+
         @Override
         public void overrideCurrentName(String name) {
             // Cannot change name of root value
@@ -175,23 +215,42 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
      * Cursor used for traversing non-empty JSON Array nodes
      */
     protected final static class Array extends HoconNodeCursor {
-        protected Iterator<ConfigValue> _contents;
-
         protected ConfigValue _currentNode;
 
+        protected ConfigList _list;
+
         public Array(ConfigValue n, HoconNodeCursor p) {
             super(JsonStreamContext.TYPE_ARRAY, p);
-            _contents = ((ConfigList) n).iterator();
+            _list = (ConfigList) n;
+        }
+
+        public Array reset(ConfigValue n, HoconNodeCursor p) {
+            _reset(p);
+            _list = (ConfigList) n;
+            _currentNode = null;
+            return this;
+        }
+
+        /**
+         * @return The list of this cursor, if none of its elements were read yet; otherwise null.
+         */
+        public ConfigList unreadList() {
+            return (_index < 0) ? _list : null;
+        }
+
+        @Override
+        public int containerSize() {
+            return _list.size();
         }
 
         @Override
         public JsonToken nextToken() {
-            if (!_contents.hasNext()) {
+            // lists are random access, no need for an iterator
+            if (_index + 1 >= _list.size()) {
                 _currentNode = null;
                 return JsonToken.END_ARRAY;
             }
-            ++_index;
-            _currentNode = _contents.next();
+            _currentNode = _list.get(++_index);
             return asJsonToken(_currentNode);
         }
 
@@ -216,39 +275,105 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
      * Cursor used for traversing non-empty JSON Object nodes
      */
     protected final static class Object extends HoconNodeCursor {
-        protected Iterator<Map.Entry<String, ConfigValue>> _contents;
-        protected Map.Entry<String, ConfigValue> _current;
+        protected ConfigObject _object;
+        /**
+         * Iterates the keys and looks up their values, as {@link ConfigObject#entrySet()} creates a new set of all entries.
+         * Created with the first entry, so objects that are skipped need none.
+         */
+        protected Iterator<String> _keys;
+        protected ConfigValue _current;
+
+        /**
+         * The number of entries that {@link #orderByIndex()} kept; -1 if the entries are not ordered.
+         */
+        protected int _orderedSize = -1;
 
         protected boolean _needEntry;
 
         public Object(ConfigValue n, HoconNodeCursor p) {
             super(JsonStreamContext.TYPE_OBJECT, p);
-            _contents = ((ConfigObject) n).entrySet().iterator();
+            _object = (ConfigObject) n;
             _needEntry = true;
         }
 
+        public Object reset(ConfigValue n, HoconNodeCursor p) {
+            _reset(p);
+            _object = (ConfigObject) n;
+            _keys = null;
+            _current = null;
+            _orderedSize = -1;
+            _needEntry = true;
+            return this;
+        }
+
+        /**
+         * @return The number of entries of the object; once ordered by {@link #orderByIndex()}, only those
+         * that are left, so the entries whose keys are distinct indexes.
+         */
+        @Override
+        public int containerSize() {
+            return (_orderedSize >= 0) ? _orderedSize : _object.size();
+        }
+
+        /**
+         * Replaces the remaining entries with the entries whose keys are indexes, in ascending order of the index.
+         * For keys of the same index (like {@code 1} and {@code 01}) only one entry is kept.
+         *
+         * @return false if entries were already read.
+         * @see HoconIndexedObjectParser#orderIndexedEntries()
+         */
+        public boolean orderByIndex() {
+            if (_index >= 0) {
+                return false;
+            }
+            String[] keys = _object.keySet().toArray(new String[0]);
+            long[] keyed = new long[keys.length];
+            int count = 0;
+            for (int i = 0; i < keys.length; ++i) {
+                int index = HoconIndexedObjectParser.parseIndex(keys[i]);
+                if (index >= 0) {
+                    // indexes are never negative, so sorting by the packed value sorts by index, then position
+                    keyed[count++] = ((long) index << 32) | i;
+                }
+            }
+            Arrays.sort(keyed, 0, count);
+            List<String> ordered = new ArrayList<>(count);
+            for (int i = 0; i < count; ++i) {
+                if (i + 1 < count && (keyed[i + 1] >>> 32) == (keyed[i] >>> 32)) {
+                    continue;
+                }
+                ordered.add(keys[(int) keyed[i]]);
+            }
+            _keys = ordered.iterator();
+            _orderedSize = ordered.size();
+            return true;
+        }
+
         @Override
         public JsonToken nextToken() {
             // Need a new entry?
             if (_needEntry) {
-                if (!_contents.hasNext()) {
+                if (_keys == null) {
+                    _keys = _object.keySet().iterator();
+                }
+                if (!_keys.hasNext()) {
                     _currentName = null;
                     _current = null;
                     return JsonToken.END_OBJECT;
                 }
                 ++_index;
                 _needEntry = false;
-                _current = _contents.next();
-                _currentName = (_current == null) ? null : _current.getKey();
+                _currentName = _keys.next();
+                _current = _object.get(_currentName);
                 return JsonToken.FIELD_NAME;
             }
             _needEntry = true;
-            return asJsonToken(_current.getValue());
+            return asJsonToken(_current);
         }
 
         @Override
         public ConfigValue currentNode() {
-            return (_current == null) ? null : _current.getValue();
+            return _current;
         }
 
         @Override
@@ -263,4 +388,107 @@ public abstract class HoconNodeCursor extends JsonStreamContext {
 
     }
 
+    /**
+     * Cursor on a single value of an Object node, that is moved from value to value instead of
+     * iterating all entries; used to bind the values of a tree one at a time, see {@link HoconTreeBinder}.
+     */
+    protected final static class Field extends HoconNodeCursor {
+        protected ConfigValue _node;
+
+        protected boolean _done;
+
+        public Field(HoconNodeCursor p) {
+            super(JsonStreamContext.TYPE_OBJECT, p);
+        }
+
+        public Field moveTo(String name, ConfigValue n) {
+            _currentName = name;
+            _node = n;
+            _done = false;
+            return this;
+        }
+
+        @Override
+        public JsonToken nextToken() {
+            if (!_done) {
+                ++_index;
+                _done = true;
+                return asJsonToken(_node);
+            }
+            _node = null;
+            return JsonToken.END_OBJECT;
+        }
+
+        @Override
+        public ConfigValue currentNode() {
+            return _done ? _node : null;
+        }
+
+        @Override
+        public HoconNodeCursor startObject() {
+            return new Object(_node, this);
+        }
+
+        @Override
+        public HoconNodeCursor startArray() {
+            return new Array(_node, this);
+        }
+
+    }
+
+    /**
+     * Cursors of a parser, kept for reuse: one object and one array cursor per depth, as a parser only
+     * traverses one container per depth at a time. Entering a container then reuses the cursor of its
+     * depth instead of allocating a new one.<br>
+     * Cursors are only valid until the parser enters another container of the same depth, so
+     * {@link JsonStreamContext}s of the parser must not be kept beyond that.
+     */
+    protected final static class Stack {
+        protected Object[] _objects = new Object[8];
+
+        protected Array[] _arrays = new Array[8];
+
+        public HoconNodeCursor startObject(HoconNodeCursor parent) {
+            ConfigValue n = parent.currentNode();
+            int depth = parent._depth + 1;
+            if (depth >= _objects.length) {
+                _objects = Arrays.copyOf(_objects, depth + (depth >> 1));
+            }
+            Object cursor = _objects[depth];
+            if (cursor == null) {
+                return _objects[depth] = new Object(n, parent);
+            }
+            return cursor.reset(n, parent);
+        }
+
+        public HoconNodeCursor startArray(HoconNodeCursor parent) {
+            ConfigValue n = parent.currentNode();
+            int depth = parent._depth + 1;
+            if (depth >= _arrays.length) {
+                _arrays = Arrays.copyOf(_arrays, depth + (depth >> 1));
+            }
+            Array cursor = _arrays[depth];
+            if (cursor == null) {
+                return _arrays[depth] = new Array(n, parent);
+            }
+            return cursor.reset(n, parent);
+        }
+
+        /**
+         * Drops the references of the cursors to the tree, while keeping the cursors.
+         */
+        public void release() {
+            for (Object cursor : _objects) {
+                if (cursor != null) {
+                    cursor.reset(null, null);
+                }
+            }
+            for (Array cursor : _arrays) {
+                if (cursor != null) {
+                    cursor.reset(null, null);
+                }
+            }
+        }
+    }
+
 }
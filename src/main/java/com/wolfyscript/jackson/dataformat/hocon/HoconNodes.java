@@ -0,0 +1,189 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts between Config trees and {@link JsonNode} trees directly, without turning either of them into tokens.<br>
+ * <br>
+ * Objects and lists become {@link HoconObjectNode}s and {@link HoconArrayNode}s, that are views of the
+ * Config tree and only create the nodes that are accessed. Scalars become the same nodes
+ * the {@link HoconTreeTraversingParser} would produce.
+ *
+ * @see HoconMapper#valueToTree(Object)
+ * @see HoconMapper#treeToValue(com.fasterxml.jackson.core.TreeNode, Class)
+ */
+public class HoconNodes {
+
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    protected final JsonNodeFactory _nodeFactory;
+
+    /**
+     * Whether floating point numbers become {@link java.math.BigDecimal} nodes, see
+     * {@link com.fasterxml.jackson.databind.DeserializationFeature#USE_BIG_DECIMAL_FOR_FLOATS}.
+     */
+    protected final boolean _bigDecimals;
+
+    public HoconNodes(JsonNodeFactory nodeFactory, boolean bigDecimals) {
+        _nodeFactory = nodeFactory;
+        _bigDecimals = bigDecimals;
+    }
+
+    public JsonNodeFactory getNodeFactory() {
+        return _nodeFactory;
+    }
+
+    /*
+    /**********************************************************
+    /* Config to JsonNode
+    /**********************************************************
+     */
+
+    public JsonNode toNode(ConfigValue value) {
+        switch (value.valueType()) {
+            case OBJECT:
+                return new HoconObjectNode(this, (ConfigObject) value);
+            case LIST:
+                return new HoconArrayNode(this, (ConfigList) value);
+            case STRING:
+                return _nodeFactory.textNode((String) value.unwrapped());
+            case BOOLEAN:
+                return _nodeFactory.booleanNode((Boolean) value.unwrapped());
+            case NUMBER:
+                return _numberNode(value);
+            default:
+                return _nodeFactory.nullNode();
+        }
+    }
+
+    protected JsonNode _numberNode(ConfigValue value) {
+        Number number = (Number) value.unwrapped();
+        if (number instanceof Integer) {
+            return _nodeFactory.numberNode(number.intValue());
+        }
+        if (number instanceof Long) {
+            return _nodeFactory.numberNode(number.longValue());
+        }
+        // numbers too big for a double are exact as well, like in HoconTreeTraversingParser#getNumberType()
+        if (_bigDecimals || Double.isInfinite(number.doubleValue())) {
+            try {
+                return _nodeFactory.numberNode(new BigDecimal(numberText(value)));
+            } catch (NumberFormatException e) {
+                // "Infinity" created by the application, not parsed
+            }
+        }
+        return _nodeFactory.numberNode(number.doubleValue());
+    }
+
+    /**
+     * @return The text of a numeric value as it was written, or of its value if it was created by the application.
+     * The Config API only exposes that text through a Config of the value, so callers only ask for it when the
+     * unwrapped value is not exact enough.
+     */
+    public static String numberText(ConfigValue number) {
+        // rendering uses the unwrapped value, only the conversion to a string keeps the original text
+        return number.atKey("n").getString("n");
+    }
+
+    /*
+    /**********************************************************
+    /* JsonNode to Config
+    /**********************************************************
+     */
+
+    /**
+     * Converts a node into a Config value.<br>
+     * Views that were not modified are converted into the value they are a view of, without copying them.
+     * Numbers that a Config value can not hold exactly are converted like the HOCON parser would: integers
+     * too big for a long into strings, and other decimals into doubles. Binary data is converted into a
+     * base64 string.
+     *
+     * @param originDescription The description of the origin of the values that are created.
+     * @throws IllegalArgumentException If the tree contains {@link com.fasterxml.jackson.databind.node.POJONode}s.
+     */
+    public static ConfigValue toConfigValue(JsonNode node, String originDescription) {
+        return ConfigValueFactory.fromAnyRef(_unwrap(node), originDescription);
+    }
+
+    /**
+     * @return The (Java) value of the node, with Config values for the views that were not modified.
+     */
+    protected static Object _unwrap(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                if (node instanceof HoconObjectNode && ((HoconObjectNode) node).getConfigObject() != null) {
+                    return ((HoconObjectNode) node).getConfigObject();
+                }
+                Map<String, Object> map = new LinkedHashMap<>(node.size() * 4 / 3 + 1);
+                for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> field = it.next();
+                    map.put(field.getKey(), _unwrap(field.getValue()));
+                }
+                return map;
+            case ARRAY:
+                if (node instanceof HoconArrayNode && ((HoconArrayNode) node).getConfigList() != null) {
+                    return ((HoconArrayNode) node).getConfigList();
+                }
+                List<Object> list = new ArrayList<>(node.size());
+                for (JsonNode element : node) {
+                    list.add(_unwrap(element));
+                }
+                return list;
+            case STRING:
+            case BINARY:
+                return node.asText();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NUMBER:
+                return _unwrapNumber(node);
+            case NULL:
+            case MISSING:
+                return null;
+            default:
+                throw new IllegalArgumentException("Can not convert " + node.getNodeType() + " node to a Config value");
+        }
+    }
+
+    /**
+     * @return Whether the node is a view of a Config value, that was modified since.
+     */
+    protected static boolean _isModifiedView(JsonNode node) {
+        if (node instanceof HoconObjectNode) {
+            return ((HoconObjectNode) node).getConfigObject() == null;
+        }
+        if (node instanceof HoconArrayNode) {
+            return ((HoconArrayNode) node).getConfigList() == null;
+        }
+        return false;
+    }
+
+    protected static Object _unwrapNumber(JsonNode node) {
+        switch (node.numberType()) {
+            case INT:
+                return node.intValue();
+            case LONG:
+                return node.longValue();
+            case BIG_INTEGER:
+                BigInteger value = node.bigIntegerValue();
+                if (value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0) {
+                    return value.longValue();
+                }
+                return value.toString();
+            default:
+                return node.doubleValue();
+        }
+    }
+}
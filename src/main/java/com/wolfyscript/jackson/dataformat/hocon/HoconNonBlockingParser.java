@@ -0,0 +1,199 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.IOContext;
+import java.io.IOException;
+
+/**
+ * Non-blocking HOCON parser, that is fed with UTF-8 encoded chunks of input through the {@link ByteArrayFeeder}.
+ * Returns {@link JsonToken#NOT_AVAILABLE} until enough input is available to complete the next token.<br>
+ * Created by {@link HoconFactory#createNonBlockingByteArrayParser()}.<br>
+ * <br>
+ * Incomplete tokens are parsed again once more input is fed; only the input of the current token is kept.
+ * Like all streaming parsers, it reports HOCON that requires resolution (substitutions, includes,
+ * {@code +=}, path expression keys and duplicate keys) as {@link JsonParseException}.
+ */
+public class HoconNonBlockingParser extends HoconUTF8StreamParser implements ByteArrayFeeder {
+
+    /*
+    /**********************************************************
+    /* State
+    /**********************************************************
+     */
+
+    /**
+     * Set when the feeder is notified that there is no more input.
+     */
+    protected boolean _endOfInput;
+
+    /**
+     * Set when the current token could not be completed with the input fed so far.
+     */
+    protected boolean _needMore;
+
+    /**
+     * The last token before {@link JsonToken#NOT_AVAILABLE} was returned, which parsing resumes from.
+     */
+    protected JsonToken _resumeToken;
+
+    private IncompleteTokenException _incompleteToken;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    public HoconNonBlockingParser(IOContext ctxt, int features, ObjectCodec codec) {
+        super(ctxt, features, codec, ctxt.allocReadIOBuffer(), 0, 0);
+    }
+
+    @Override
+    protected void _releaseBuffers() throws IOException {
+        super._releaseBuffers();
+        byte[] buf = _inputBuffer;
+        if (buf != null) {
+            _inputBuffer = null;
+            _ioContext.releaseReadIOBuffer(buf);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Non-blocking input
+    /**********************************************************
+     */
+
+    @Override
+    public ByteArrayFeeder getNonBlockingInputFeeder() {
+        return this;
+    }
+
+    @Override
+    public boolean canParseAsync() {
+        return true;
+    }
+
+    @Override
+    public boolean needMoreInput() {
+        return !_endOfInput && (_needMore || _inputPtr >= _inputEnd);
+    }
+
+    @Override
+    public void feedInput(byte[] buf, int start, int end) throws IOException {
+        if (_endOfInput || _closed) {
+            _reportError("Already closed, can not feed more input");
+        }
+        if (end < start) {
+            _reportError("Input end (%d) may not be before start (%d)", end, start);
+        }
+        if (_tokenIncomplete) {
+            // decode the current String now, as its input is about to be discarded
+            _tokenIncomplete = false;
+            _finishString();
+        }
+        int len = end - start;
+        int remaining = _inputEnd - _inputPtr;
+        byte[] input = _inputBuffer;
+        if (remaining + len > input.length) {
+            input = new byte[Math.max(input.length << 1, remaining + len)];
+        }
+        // Input before the current token is no longer needed
+        System.arraycopy(_inputBuffer, _inputPtr, input, 0, remaining);
+        System.arraycopy(buf, start, input, remaining, len);
+        // A grown buffer replaces the allocated one, and is released in its place when closed
+        _inputBuffer = input;
+        _currInputProcessed += _inputPtr;
+        _currInputRowStart -= _inputPtr;
+        _inputPtr = 0;
+        _inputEnd = remaining + len;
+        _needMore = false;
+    }
+
+    @Override
+    public void endOfInput() {
+        _endOfInput = true;
+        _needMore = false;
+    }
+
+    /*
+    /**********************************************************
+    /* Public API, traversal
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (_currToken == JsonToken.NOT_AVAILABLE) {
+            if (_needMore) {
+                return JsonToken.NOT_AVAILABLE;
+            }
+            _currToken = _resumeToken;
+        }
+        final JsonToken prevToken = _currToken;
+        final int ptr = _inputPtr;
+        final int row = _currInputRow;
+        final int rowStart = _currInputRowStart;
+        final boolean needSeparator = _needSeparator;
+        try {
+            return super.nextToken();
+        } catch (IncompleteTokenException e) {
+            // Parsed again once more input is fed
+            _inputPtr = ptr;
+            _currInputRow = row;
+            _currInputRowStart = rowStart;
+            _needSeparator = needSeparator;
+            _resumeToken = prevToken;
+            _needMore = true;
+            return (_currToken = JsonToken.NOT_AVAILABLE);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    @Override
+    protected void _verifyEndOfInput() throws IOException {
+        if (!_endOfInput) {
+            if (_incompleteToken == null) {
+                _incompleteToken = new IncompleteTokenException(this);
+            }
+            throw _incompleteToken;
+        }
+    }
+
+    @Override
+    protected void _reportInvalidEOF(String msg, JsonToken currToken) throws JsonParseException {
+        if (!_endOfInput) {
+            if (_incompleteToken == null) {
+                _incompleteToken = new IncompleteTokenException(this);
+            }
+            throw _incompleteToken;
+        }
+        super._reportInvalidEOF(msg, currToken);
+    }
+
+    /**
+     * Thrown to abort a token that can not be completed with the input fed so far.
+     * Never leaves the parser, so it does not need a stack trace.
+     */
+    private static final class IncompleteTokenException extends JsonParseException {
+        private static final long serialVersionUID = 1L;
+
+        IncompleteTokenException(JsonParser p) {
+            super(p, "Incomplete token");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
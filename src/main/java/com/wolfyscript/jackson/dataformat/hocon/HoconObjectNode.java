@@ -0,0 +1,173 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link ObjectNode} that is a view of a {@link ConfigObject}.<br>
+ * The nodes of the values are only created once they are accessed, so reading a tree does not copy the
+ * whole Config tree. Looking up a single key only creates the node of that key; iterating over, or
+ * modifying, the object creates the nodes of all its values (but not of their values, which are views again).
+ *
+ * @see HoconNodes
+ */
+public class HoconObjectNode extends ObjectNode {
+
+    private static final long serialVersionUID = 1L;
+
+    public HoconObjectNode(HoconNodes nodes, ConfigObject object) {
+        super(nodes.getNodeFactory(), new Children(nodes, object));
+    }
+
+    /**
+     * @return The ConfigObject this node is a view of, or null if the node, or one of its descendants,
+     * was modified since.
+     */
+    public ConfigObject getConfigObject() {
+        Children children = (Children) _children;
+        return children._isModified() ? null : children._source;
+    }
+
+    /**
+     * Map of the child nodes, that creates them on access.
+     */
+    protected static class Children extends AbstractMap<String, JsonNode> {
+
+        protected final HoconNodes _nodes;
+
+        /**
+         * The object the nodes are created from.
+         */
+        protected final ConfigObject _source;
+
+        /**
+         * The nodes created so far; the complete (and modifiable) map of the children once
+         * {@link #_completed} is set.
+         */
+        protected Map<String, JsonNode> _created = new LinkedHashMap<>();
+
+        protected boolean _completed;
+
+        /**
+         * Whether entries were put or removed, after which {@link #_source} is outdated.
+         */
+        protected boolean _modified;
+
+        protected Children(HoconNodes nodes, ConfigObject source) {
+            _nodes = nodes;
+            _source = source;
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            JsonNode node = _created.get(key);
+            if (node == null && !_completed) {
+                ConfigValue value = _source.get(key);
+                if (value != null) {
+                    node = _nodes.toNode(value);
+                    _created.put((String) key, node);
+                }
+            }
+            return node;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return _completed ? _created.containsKey(key) : _source.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return _completed ? _created.size() : _source.size();
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            Set<Entry<String, JsonNode>> entries = _complete().entrySet();
+            // iterating does not modify, only removing through the iterator does
+            return new AbstractSet<Entry<String, JsonNode>>() {
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    Iterator<Entry<String, JsonNode>> it = entries.iterator();
+                    return new Iterator<Entry<String, JsonNode>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, JsonNode> next() {
+                            return it.next();
+                        }
+
+                        @Override
+                        public void remove() {
+                            _modified = true;
+                            it.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            _modified = true;
+            return _complete().put(key, value);
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            _modified = true;
+            return _complete().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            _modified = true;
+            _complete().clear();
+        }
+
+        /**
+         * @return Whether the object, or one of the views created for its values, was modified.
+         */
+        protected boolean _isModified() {
+            if (_modified) {
+                return true;
+            }
+            for (JsonNode node : _created.values()) {
+                if (HoconNodes._isModifiedView(node)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        protected Map<String, JsonNode> _complete() {
+            if (!_completed) {
+                // in the order of the object, no matter which nodes were accessed first
+                Map<String, JsonNode> complete = new LinkedHashMap<>(_source.size() * 4 / 3 + 1);
+                for (Map.Entry<String, ConfigValue> entry : _source.entrySet()) {
+                    JsonNode node = _created.get(entry.getKey());
+                    complete.put(entry.getKey(), (node != null) ? node : _nodes.toNode(entry.getValue()));
+                }
+                _created = complete;
+                _completed = true;
+            }
+            return _created;
+        }
+    }
+}
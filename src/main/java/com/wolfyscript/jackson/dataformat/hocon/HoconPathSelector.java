@@ -0,0 +1,123 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.typesafe.config.ConfigUtil;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set of paths to read from a document in a single pass, see {@link HoconMapper#readValuesAt(java.io.File, HoconPathSelector)}.<br>
+ * The paths are compiled into a trie of their keys, so reading only descends into the keys that lead to
+ * a selected value; everything else is skipped as a whole.<br>
+ * <br>
+ * Once all paths are selected, the selector can be shared between threads and reads.
+ */
+public class HoconPathSelector {
+
+    protected final Node _root = new Node();
+
+    protected final List<Node> _selected = new ArrayList<>();
+
+    /**
+     * Selects the value at a HOCON path, like {@code service.database}.
+     *
+     * @param valueType The type to bind the value to; a {@link Class}, {@link com.fasterxml.jackson.databind.JavaType}
+     *                  or any other {@link Type}.
+     * @return This selector.
+     * @throws IllegalArgumentException If the path is already selected.
+     */
+    public HoconPathSelector select(String path, Type valueType) {
+        return _select(path, ConfigUtil.splitPath(path), valueType);
+    }
+
+    /**
+     * Selects the value at the pointer; the value is read with the pointer as its path.
+     *
+     * @see #select(String, Type)
+     */
+    public HoconPathSelector select(JsonPointer pointer, Type valueType) {
+        List<String> keys = new ArrayList<>();
+        for (JsonPointer ptr = pointer; !ptr.matches(); ptr = ptr.tail()) {
+            keys.add(ptr.getMatchingProperty());
+        }
+        return _select(pointer.toString(), keys, valueType);
+    }
+
+    protected HoconPathSelector _select(String path, List<String> keys, Type valueType) {
+        Node node = _root;
+        for (String key : keys) {
+            node = node._children.computeIfAbsent(key, k -> new Node());
+        }
+        if (node._path != null) {
+            throw new IllegalArgumentException("Path '" + path + "' selects the same value as '" + node._path + "'");
+        }
+        node._path = path;
+        node._type = valueType;
+        _selected.add(node);
+        return this;
+    }
+
+    public Node getRoot() {
+        return _root;
+    }
+
+    /**
+     * @return The number of selected paths.
+     */
+    public int size() {
+        return _selected.size();
+    }
+
+    /**
+     * @return The selected paths, in the order they were selected.
+     */
+    public List<String> getPaths() {
+        List<String> paths = new ArrayList<>(_selected.size());
+        for (Node node : _selected) {
+            paths.add(node._path);
+        }
+        return paths;
+    }
+
+    /**
+     * Node of the trie: a key on the way to, or of, a selected value.
+     */
+    public static class Node {
+
+        protected final Map<String, Node> _children = new HashMap<>();
+
+        protected String _path;
+
+        protected Type _type;
+
+        /**
+         * @return The node for the key (of an object, or the index of a list), or null if no selected value is below it.
+         */
+        public Node getChild(String key) {
+            return _children.get(key);
+        }
+
+        public Map<String, Node> getChildren() {
+            return Collections.unmodifiableMap(_children);
+        }
+
+        public boolean hasChildren() {
+            return !_children.isEmpty();
+        }
+
+        /**
+         * @return The path the value of this node was selected with, or null if it is not selected.
+         */
+        public String getPath() {
+            return _path;
+        }
+
+        public Type getType() {
+            return _type;
+        }
+    }
+}
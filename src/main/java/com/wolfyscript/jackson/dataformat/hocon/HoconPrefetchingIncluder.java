@@ -0,0 +1,426 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigParseOptions;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Includer for a single document, that loads all includes of the document concurrently.
+ * Used by the {@link HoconFactory} for files, if an include executor is set
+ * (see {@link HoconFactory#setIncludeExecutor(Executor)}).<br>
+ * <br>
+ * Once the first include of the document is reached, the document is scanned for include statements with the
+ * lexer of the {@link HoconStreamingParser} (see {@link IncludeScanner}), which are then loaded through the
+ * fallback includer on the executor, with the class loader of the parse options of the document. The parser still asks for the includes in order, so
+ * they are merged in the same order as without prefetching; it just receives the already loaded content.
+ * Includes that were not found by the scan are loaded when they are reached, as usual.<br>
+ * <br>
+ * Only the includes of the document itself are prefetched; those of the included files are loaded by the thread
+ * that loads the included file, so the executor threads never wait for each other.
+ */
+public class HoconPrefetchingIncluder extends HoconIncluderBase {
+
+    private final static String KIND_HEURISTIC = "";
+    private final static String KIND_FILE = "file";
+    private final static String KIND_URL = "url";
+    private final static String KIND_CLASSPATH = "classpath";
+
+    protected final Prefetch _prefetch;
+
+    /**
+     * @param document The file of the document, which is scanned for includes.
+     * @param fallback The includer that loads the includes, or null for the default includer.
+     */
+    public HoconPrefetchingIncluder(File document, Executor executor, ConfigIncluder fallback) {
+        this(new Prefetch(document, executor), fallback);
+    }
+
+    protected HoconPrefetchingIncluder(Prefetch prefetch, ConfigIncluder fallback) {
+        super(fallback);
+        _prefetch = prefetch;
+    }
+
+    /**
+     * Cancels the prefetched includes that were not used, once the document is parsed.
+     */
+    public void cancel() {
+        for (FutureTask<ConfigObject> task : _prefetch.tasks.values()) {
+            task.cancel(false);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* ConfigIncluder implementation
+    /**********************************************************
+     */
+
+    @Override
+    protected HoconIncluderBase _withFallback(ConfigIncluder fallback) {
+        return new HoconPrefetchingIncluder(_prefetch, fallback);
+    }
+
+    @Override
+    public ConfigObject include(ConfigIncludeContext context, String what) {
+        return _include(context, KIND_HEURISTIC, what, () -> _load(context, KIND_HEURISTIC, what));
+    }
+
+    @Override
+    public ConfigObject includeFile(ConfigIncludeContext context, File what) {
+        return _include(context, KIND_FILE, what.getPath(), () -> _load(context, KIND_FILE, what.getPath()));
+    }
+
+    @Override
+    public ConfigObject includeURL(ConfigIncludeContext context, URL what) {
+        return _include(context, KIND_URL, what.toExternalForm(), () -> _load(context, KIND_URL, what.toExternalForm()));
+    }
+
+    @Override
+    public ConfigObject includeResources(ConfigIncludeContext context, String what) {
+        return _include(context, KIND_CLASSPATH, what, () -> _load(context, KIND_CLASSPATH, what));
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    protected ConfigObject _include(ConfigIncludeContext context, String kind, String what, Supplier<ConfigObject> loader) {
+        Prefetch prefetch = _prefetch;
+        if (prefetch.owner == null) {
+            _start(context);
+        }
+        if (Thread.currentThread() != prefetch.owner) {
+            return loader.get();
+        }
+        FutureTask<ConfigObject> task = null;
+        if (prefetch.depth == 0) {
+            task = prefetch.tasks.get(_key(context.parseOptions().getAllowMissing(), kind, what));
+        }
+        // Includes of the included file are not part of the document
+        ++prefetch.depth;
+        try {
+            return (task != null) ? _get(task) : loader.get();
+        } finally {
+            --prefetch.depth;
+        }
+    }
+
+    /**
+     * Scans the document for includes and starts loading them.
+     *
+     * @param context The context of the document.
+     */
+    protected void _start(ConfigIncludeContext context) {
+        Prefetch prefetch = _prefetch;
+        prefetch.owner = Thread.currentThread();
+        List<Include> includes;
+        try {
+            includes = IncludeScanner.scan(prefetch.document);
+        } catch (IOException e) {
+            // Loaded one by one instead
+            return;
+        }
+        ConfigParseOptions options = context.parseOptions();
+        // Otherwise the executor threads would use their own context class loader for classpath includes
+        context = context.setParseOptions(options.setClassLoader(options.getClassLoader()));
+        for (Include include : includes) {
+            String kind = include.kind;
+            String what = include.what;
+            if (KIND_URL.equals(kind)) {
+                URL url = _toURL(what);
+                if (url == null) {
+                    continue;
+                }
+                what = url.toExternalForm();
+            }
+            ConfigIncludeContext includeContext = include.required ? context.setParseOptions(context.parseOptions().setAllowMissing(false)) : context;
+            String key = _key(!include.required && options.getAllowMissing(), kind, what);
+            if (!prefetch.tasks.containsKey(key)) {
+                String name = what;
+                FutureTask<ConfigObject> task = new FutureTask<>(() -> _load(includeContext, kind, name));
+                prefetch.tasks.put(key, task);
+                try {
+                    prefetch.executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // Run by the owner once it is reached
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the include through the fallback includer, the same way the parser would.
+     */
+    protected ConfigObject _load(ConfigIncludeContext context, String kind, String what) {
+        switch (kind) {
+            case KIND_FILE:
+                return _fallbackIncludeFile(context, new File(what));
+            case KIND_URL:
+                URL url = _toURL(what);
+                if (url == null) {
+                    throw new ConfigException.BadValue("url", "Invalid URL '" + what + "'");
+                }
+                return _fallbackIncludeURL(context, url);
+            case KIND_CLASSPATH:
+                return _fallbackIncludeResources(context, what);
+            default:
+                return _fallbackInclude(context, what);
+        }
+    }
+
+    /**
+     * Waits for the prefetched include, or loads it right away if the executor did not start it yet.
+     */
+    protected ConfigObject _get(FutureTask<ConfigObject> task) {
+        task.run();
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ConfigException.Generic("Failed to include", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigException.Generic("Interrupted while waiting for an include", e);
+        }
+    }
+
+    protected String _key(boolean allowMissing, String kind, String what) {
+        return (allowMissing ? "" : "required ") + kind + "(" + what + ")";
+    }
+
+    /**
+     * An include statement of the document.
+     */
+    protected static final class Include {
+        final boolean required;
+        final String kind;
+        final String what;
+
+        Include(boolean required, String kind, String what) {
+            this.required = required;
+            this.kind = kind;
+            this.what = what;
+        }
+    }
+
+    /**
+     * Finds the include statements of a document with the lexer of the {@link HoconStreamingParser}, so that only
+     * includes the parser would see are found: not those in strings, comments, arrays or values. Only tracks the
+     * nesting of objects and arrays, and where entries start; everything else is skipped token by token.
+     */
+    protected static class IncludeScanner extends HoconUTF8StreamParser {
+
+        protected final List<Include> _includes = new ArrayList<>();
+
+        protected IncludeScanner(IOContext ctxt, byte[] content) {
+            super(ctxt, 0, null, content, 0, content.length);
+        }
+
+        /**
+         * @return The includes of the document, up to the first syntax error (which the parser reports later on).
+         */
+        public static List<Include> scan(File document) throws IOException {
+            byte[] content = Files.readAllBytes(document.toPath());
+            IOContext ctxt = new IOContext(new BufferRecycler(), ContentReference.rawReference(document), false);
+            try (IncludeScanner scanner = new IncludeScanner(ctxt, content)) {
+                try {
+                    scanner._scan();
+                } catch (JsonParseException e) {
+                    // only the includes before the error
+                }
+                return scanner._includes;
+            }
+        }
+
+        protected void _scan() throws IOException {
+            // the root object may be implicit
+            BitSet objects = new BitSet();
+            objects.set(0);
+            int depth = 0;
+            boolean entryStart = true;
+            boolean valueStart = false;
+            while (true) {
+                if (_skipSeparators() != 0 && !valueStart) {
+                    entryStart = true;
+                }
+                int ptr = _inputPtr;
+                if (ptr >= _inputEnd) {
+                    return;
+                }
+                int c = _unit(ptr);
+                if (c == '{' || c == '[') {
+                    objects.set(++depth, c == '{');
+                    entryStart = (c == '{');
+                    valueStart = false;
+                    _inputPtr = ptr + 1;
+                    continue;
+                }
+                if (c == ':' || c == '=') {
+                    // the value may start on the next line
+                    entryStart = false;
+                    valueStart = true;
+                    _inputPtr = ptr + 1;
+                    continue;
+                }
+                if (c == '"') {
+                    ptr = _isTripleQuote(ptr) ? _scanTripleQuoted(ptr, true) : _scanQuoted(ptr);
+                } else if (c == '$' && ptr + 1 < _inputEnd && _unit(ptr + 1) == '{') {
+                    ptr = _skipSubstitution(ptr);
+                } else if (_isUnquotedStart(ptr, c)) {
+                    int end = _scanUnquoted(ptr);
+                    if (entryStart && objects.get(depth) && _matches(ptr, end, "include")) {
+                        _inputPtr = end;
+                        Include include = _scanInclude();
+                        if (include != null) {
+                            _includes.add(include);
+                            entryStart = false;
+                            continue;
+                        }
+                    }
+                    ptr = end;
+                } else {
+                    if ((c == '}' || c == ']') && depth > 0) {
+                        --depth;
+                    }
+                    ++ptr;
+                }
+                _inputPtr = ptr;
+                entryStart = false;
+                valueStart = false;
+            }
+        }
+
+        /**
+         * Scans the rest of an include statement, after the {@code include} keyword. The kinds may be written
+         * without whitespace in between, like {@code required(file("name"))}, as the parentheses are part of
+         * unquoted text.
+         *
+         * @return The include, or null if the keyword is not followed by an include parameter.
+         */
+        protected Include _scanInclude() throws IOException {
+            _skipValueWhitespace();
+            int ptr = _inputPtr;
+            boolean required = false;
+            String kind = KIND_HEURISTIC;
+            int parens = 0;
+            while (ptr < _inputEnd && _unit(ptr) != '"') {
+                if (!_isUnquotedStart(ptr, _unit(ptr))) {
+                    return null;
+                }
+                int end = _scanUnquoted(ptr);
+                while (ptr < end) {
+                    int open = ptr;
+                    while (open < end && _unit(open) != '(') {
+                        ++open;
+                    }
+                    if (open == end) {
+                        return null;
+                    }
+                    if (parens == 0 && _matches(ptr, open, "required")) {
+                        required = true;
+                    } else if (kind != KIND_HEURISTIC) {
+                        return null;
+                    } else if (_matches(ptr, open, KIND_FILE)) {
+                        kind = KIND_FILE;
+                    } else if (_matches(ptr, open, KIND_URL)) {
+                        kind = KIND_URL;
+                    } else if (_matches(ptr, open, KIND_CLASSPATH)) {
+                        kind = KIND_CLASSPATH;
+                    } else {
+                        return null;
+                    }
+                    ++parens;
+                    ptr = open + 1;
+                }
+                ptr = _skipInlineWhitespace(ptr);
+            }
+            if (ptr >= _inputEnd) {
+                return null;
+            }
+            int start = ptr;
+            ptr = _isTripleQuote(ptr) ? _scanTripleQuoted(ptr, true) : _scanQuoted(ptr);
+            _decodeText(start, ptr, VALUE_CONCATENATION);
+            String what = _textBuffer.contentsAsString();
+            for (; parens > 0; --parens) {
+                ptr = _skipInlineWhitespace(ptr);
+                if (ptr >= _inputEnd || _unit(ptr) != ')') {
+                    return null;
+                }
+                ++ptr;
+            }
+            _inputPtr = ptr;
+            return new Include(required, kind, what);
+        }
+
+        /**
+         * @return The position after the closing brace of the substitution starting at the specified position.
+         */
+        protected int _skipSubstitution(int ptr) throws IOException {
+            ptr += 2;
+            while (ptr < _inputEnd) {
+                int c = _unit(ptr);
+                if (c == '}') {
+                    return ptr + 1;
+                }
+                if (c == '"') {
+                    ptr = _scanQuoted(ptr);
+                } else {
+                    ptr += (c >= 128) ? _nonAsciiLength(ptr) : 1;
+                }
+            }
+            return ptr;
+        }
+    }
+
+    /**
+     * State of the document, that is shared by all includers created through {@link #withFallback(ConfigIncluder)}.
+     */
+    protected static final class Prefetch {
+        final File document;
+        final Executor executor;
+        final Map<String, FutureTask<ConfigObject>> tasks = new ConcurrentHashMap<>();
+
+        /**
+         * The thread that parses the document; only set once the first include is reached.
+         */
+        volatile Thread owner;
+
+        /**
+         * Number of includes the owner is currently loading itself; only accessed by the owner.
+         */
+        int depth;
+
+        Prefetch(File document, Executor executor) {
+            this.document = document;
+            this.executor = executor;
+        }
+    }
+}
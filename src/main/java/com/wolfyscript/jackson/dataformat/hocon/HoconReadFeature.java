@@ -0,0 +1,91 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.FormatFeature;
+
+/**
+ * Enumeration that defines all togglable features for reading HOCON content.<br>
+ * Configured on the {@link HoconFactory}, see {@link HoconFactory#enable(HoconReadFeature)}.
+ */
+public enum HoconReadFeature implements FormatFeature {
+
+    /**
+     * Makes the {@link HoconMapper} parse documents with the {@link HoconStreamingParser}, instead of parsing
+     * them into a Typesafe Config tree first and traversing that. Applies to the read methods of the mapper that
+     * are given the source of the document (not a parser): Strings, Readers, InputStreams, byte arrays, and files,
+     * paths and file or jar URLs that are not {@code .json} or {@code .properties}. The {@code createParser}
+     * methods of the factory always parse into a Config tree; streaming parsers are created explicitly with
+     * {@link HoconFactory#createStreamingParser(String)} and its overloads.<br>
+     * <br>
+     * The streaming parser only supports a strict subset of HOCON: documents that need no resolution.
+     * Substitutions, includes, {@code +=}, path expression keys (like {@code a.b = 1}) and duplicate keys
+     * (which HOCON merges) are reported as {@link com.fasterxml.jackson.core.JsonParseException}s, at the point
+     * they are read; there is no fallback to the Config tree.
+     * It emits tokens while reading the text and never builds a Config tree, and objects are read in the order
+     * of the document instead of the order of the tree. The content itself is still held in memory: Readers,
+     * InputStreams and URLs are read completely before parsing, only files may be mapped instead
+     * (see {@link #MEMORY_MAPPED_FILES}).<br>
+     * <br>
+     * Disabled by default, so that every document is read with all of HOCON.
+     */
+    STRICT_STREAMING_PARSER(false),
+
+    /**
+     * Maps files into memory with {@link java.nio.channels.FileChannel#map}, and parses them straight from the
+     * mapped buffer, instead of reading them onto the heap first.
+     * Only applies to files that are parsed with the {@link HoconStreamingParser} (see {@link #STRICT_STREAMING_PARSER}).<br>
+     * <br>
+     * Disabled by default, as a mapped file stays mapped until the buffer is garbage collected, which on some
+     * platforms prevents the file from being deleted or replaced in the meantime.
+     */
+    MEMORY_MAPPED_FILES(false),
+
+    /**
+     * Reports the locations of tokens (description of the source and line number) through
+     * {@link com.fasterxml.jackson.core.JsonParser#getTokenLocation()} and
+     * {@link com.fasterxml.jackson.core.JsonParser#getCurrentLocation()}, which end up in error messages.<br>
+     * If disabled, parsers report {@link com.fasterxml.jackson.core.JsonLocation#NA} instead, saving the location
+     * objects for reads that do not need them.
+     */
+    TOKEN_LOCATIONS(true),
+
+    /**
+     * Drops the origins (description, line number and comments) of all values right after a document
+     * is resolved into a Config tree, so that only a single origin per document is retained.
+     * Applies to documents that are parsed into a Config tree, including those kept in the
+     * {@link HoconConfigCache}.<br>
+     * <br>
+     * Disabled by default, as it loses the line numbers of tokens (see {@link #TOKEN_LOCATIONS}) and the text
+     * of numbers as it was written, so that numbers are read as the Integer, Long or Double they were
+     * unwrapped as (for example, {@code 1.10} is read as the BigDecimal {@code 1.1}).
+     */
+    STRIP_ORIGINS(false);
+
+    private final boolean _defaultState;
+    private final int _mask;
+
+    /**
+     * Method that calculates bit set (flags) of all features that
+     * are enabled by default.
+     */
+    public static int collectDefaults() {
+        int flags = 0;
+        for (HoconReadFeature f : values()) {
+            if (f.enabledByDefault()) {
+                flags |= f.getMask();
+            }
+        }
+        return flags;
+    }
+
+    HoconReadFeature(boolean defaultState) {
+        _defaultState = defaultState;
+        _mask = (1 << ordinal());
+    }
+
+    @Override
+    public boolean enabledByDefault() { return _defaultState; }
+    @Override
+    public boolean enabledIn(int flags) { return (flags & _mask) != 0; }
+    @Override
+    public int getMask() { return _mask; }
+}
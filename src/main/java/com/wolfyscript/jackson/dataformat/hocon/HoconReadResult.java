@@ -0,0 +1,74 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Result of reading a single source of a batch, see {@link HoconMapper#readValues(java.util.Collection, Class)}.
+ * Holds either the value that was read, or the error that prevented reading it.
+ *
+ * @param <T> The type of the value.
+ */
+public class HoconReadResult<T> {
+
+    protected final Path _path;
+    protected final T _value;
+    protected final Exception _error;
+
+    protected HoconReadResult(Path path, T value, Exception error) {
+        _path = path;
+        _value = value;
+        _error = error;
+    }
+
+    public static <T> HoconReadResult<T> success(Path path, T value) {
+        return new HoconReadResult<>(path, value, null);
+    }
+
+    public static <T> HoconReadResult<T> failure(Path path, Exception error) {
+        return new HoconReadResult<>(path, null, error);
+    }
+
+    public Path getPath() {
+        return _path;
+    }
+
+    public boolean isSuccess() {
+        return _error == null;
+    }
+
+    /**
+     * @return The value that was read, or null if reading failed.
+     */
+    public T getValue() {
+        return _value;
+    }
+
+    /**
+     * @return The error that prevented reading the source; an {@link IOException} (including parse and
+     * binding errors) or a {@link RuntimeException} (like a {@link com.typesafe.config.ConfigException}).
+     * Null if the value was read.
+     */
+    public Exception getError() {
+        return _error;
+    }
+
+    /**
+     * @return The value that was read.
+     * @throws IOException If reading failed with an IOException; runtime errors are rethrown as they are.
+     */
+    public T get() throws IOException {
+        if (_error instanceof IOException) {
+            throw (IOException) _error;
+        }
+        if (_error instanceof RuntimeException) {
+            throw (RuntimeException) _error;
+        }
+        return _value;
+    }
+
+    @Override
+    public String toString() {
+        return "HoconReadResult[" + _path + ": " + (isSuccess() ? _value : _error) + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.IOContext;
+import java.io.IOException;
+
+/**
+ * Streaming parser that reads HOCON from a char buffer, which holds the whole document.
+ * Used for String and Reader based input.
+ */
+public class HoconReaderBasedParser extends HoconStreamingParser {
+
+    protected char[] _inputBuffer;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    public HoconReaderBasedParser(IOContext ctxt, int features, ObjectCodec codec, char[] inputBuffer, int start, int end) {
+        super(ctxt, features, codec);
+        _inputBuffer = inputBuffer;
+        _inputPtr = start;
+        _inputEnd = end;
+        _currInputRowStart = start;
+        // so that locations are relative to the start of the content
+        _currInputProcessed = -start;
+    }
+
+    @Override
+    protected void _closeInput() {
+        // Content was read completely before parsing, so there is nothing to close
+    }
+
+    /*
+    /**********************************************************
+    /* Input access
+    /**********************************************************
+     */
+
+    @Override
+    protected int _unit(int ptr) {
+        return _inputBuffer[ptr];
+    }
+
+    @Override
+    protected int _nonAsciiWhitespace(int ptr) {
+        return isHoconWhitespace(_inputBuffer[ptr]) ? 1 : 0;
+    }
+
+    @Override
+    protected void _appendRaw(int start, int end) {
+        _textBuffer.append(_inputBuffer, start, end - start);
+    }
+
+    @Override
+    protected void _resetRaw(int start, int end) {
+        // no need to copy, the buffer is not modified while parsing
+        _textBuffer.resetWithShared(_inputBuffer, start, end - start);
+    }
+}
@@ -0,0 +1,1092 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.ParserBase;
+import com.fasterxml.jackson.core.io.IOContext;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Base class for parsers that read HOCON text and emit tokens as they go, without building
+ * a Typesafe Config tree first.<br>
+ * <br>
+ * Only the part of HOCON that can be handled one token at a time is supported: comments, unquoted and
+ * triple quoted strings, {@code =} separators, omitted root braces, commas or new lines between elements
+ * and concatenations of simple values. Everything that requires resolving the document
+ * (substitutions, includes, {@code +=}, path expression keys and duplicate keys that would be merged)
+ * is reported as a {@link JsonParseException} when it is read; such documents must be read with the
+ * {@link HoconTreeTraversingParser} instead (see {@link HoconReadFeature#STRICT_STREAMING_PARSER}).<br>
+ * <br>
+ * All structural characters of HOCON are ASCII, so sub-classes only need to provide access to the
+ * code units of the input and the decoding of text ranges.
+ */
+public abstract class HoconStreamingParser extends ParserBase {
+
+    /*
+    /**********************************************************
+    /* Constants
+    /**********************************************************
+     */
+
+    protected final static int VALUE_QUOTED = 1;
+    protected final static int VALUE_ESCAPED = 2;
+    protected final static int VALUE_TRIPLE_QUOTED = 3;
+    protected final static int VALUE_UNQUOTED = 4;
+    protected final static int VALUE_CONCATENATION = 5;
+
+    protected final static int SEPARATOR_NEWLINE = 1;
+    protected final static int SEPARATOR_COMMA = 2;
+
+    private final static int CC_TEXT = 0;
+    private final static int CC_WHITESPACE = 1;
+    private final static int CC_NEWLINE = 2;
+    private final static int CC_FORBIDDEN = 3;
+
+    /**
+     * Character codes of all ASCII characters.
+     * Unquoted text may contain anything besides whitespace, the forbidden characters and "//".
+     */
+    private final static int[] CHAR_CODES = new int[128];
+    static {
+        for (int c = 0; c < 128; ++c) {
+            CHAR_CODES[c] = isHoconWhitespace(c) ? CC_WHITESPACE : CC_TEXT;
+        }
+        CHAR_CODES['\n'] = CC_NEWLINE;
+        for (char c : "$\"{}[]:=,+#`^?!@*&\\".toCharArray()) {
+            CHAR_CODES[c] = CC_FORBIDDEN;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Configuration
+    /**********************************************************
+     */
+
+    protected ObjectCodec _objectCodec;
+
+    /**
+     * Bit flag composed of bits that indicate which
+     * {@link HoconReadFeature}s are enabled.
+     */
+    protected int _formatFeatures = HoconReadFeature.collectDefaults();
+
+    /*
+    /**********************************************************
+    /* State
+    /**********************************************************
+     */
+
+    /**
+     * Set if the root object is not enclosed in braces, in which case it ends at the end of input.
+     */
+    protected boolean _implicitRoot;
+
+    /**
+     * Set after an element of the current Object or Array, as the next element must be
+     * preceded by a comma or new line.
+     */
+    protected boolean _needSeparator;
+
+    /**
+     * Flag that indicates that the current String token has not yet been decoded.
+     */
+    protected boolean _tokenIncomplete;
+
+    /**
+     * Range and kind of the simple value of the current token, used to decode it on demand.
+     */
+    protected int _valueStart, _valueEnd, _valueKind;
+
+    /**
+     * Location of the current token; created when first asked for.
+     */
+    protected JsonLocation _tokenLocation;
+
+    /**
+     * Set by {@link #_scanQuoted(int)} if the scanned string contains escapes.
+     */
+    private boolean _scannedEscape;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    protected HoconStreamingParser(IOContext ctxt, int features, ObjectCodec codec) {
+        super(ctxt, features);
+        _objectCodec = codec;
+    }
+
+    @Override
+    public void setCodec(ObjectCodec c) {
+        _objectCodec = c;
+    }
+
+    @Override
+    public int getFormatFeatures() {
+        return _formatFeatures;
+    }
+
+    @Override
+    public JsonParser overrideFormatFeatures(int values, int mask) {
+        _formatFeatures = (_formatFeatures & ~mask) | (values & mask);
+        return this;
+    }
+
+    @Override
+    public JsonLocation getTokenLocation() {
+        if (!HoconReadFeature.TOKEN_LOCATIONS.enabledIn(_formatFeatures)) {
+            return JsonLocation.NA;
+        }
+        if (_tokenLocation == null) {
+            _tokenLocation = _createTokenLocation();
+        }
+        return _tokenLocation;
+    }
+
+    @Override
+    public JsonLocation getCurrentLocation() {
+        if (!HoconReadFeature.TOKEN_LOCATIONS.enabledIn(_formatFeatures)) {
+            return JsonLocation.NA;
+        }
+        return _createCurrentLocation();
+    }
+
+    /**
+     * @return The location of the current token; offsets are in chars, sub-classes reading bytes override this.
+     */
+    protected JsonLocation _createTokenLocation() {
+        return super.getTokenLocation();
+    }
+
+    protected JsonLocation _createCurrentLocation() {
+        return super.getCurrentLocation();
+    }
+
+    @Override
+    public ObjectCodec getCodec() {
+        return _objectCodec;
+    }
+
+    @Override
+    public Version version() {
+        return com.fasterxml.jackson.databind.cfg.PackageVersion.VERSION;
+    }
+
+    /*
+    /**********************************************************
+    /* Abstract methods for sub-classes to implement
+    /**********************************************************
+     */
+
+    /**
+     * @return The code unit at the specified position of the input buffer; always positive, values
+     * below 128 are ASCII characters.
+     */
+    protected abstract int _unit(int ptr);
+
+    /**
+     * @return The number of code units of the whitespace character starting at the specified (non ASCII)
+     * position, or 0 if the character is not whitespace.
+     */
+    protected abstract int _nonAsciiWhitespace(int ptr) throws IOException;
+
+    /**
+     * @return The number of code units of the (non ASCII) character starting at the specified position.<br>
+     * The lexer passes over every non ASCII character through this method or {@link #_nonAsciiWhitespace(int)},
+     * so byte based parsers validate the encoding of the input here, instead of before parsing.
+     */
+    protected int _nonAsciiLength(int ptr) throws IOException {
+        return 1;
+    }
+
+    /**
+     * Appends the decoded text of the specified range to the text buffer.
+     */
+    protected abstract void _appendRaw(int start, int end) throws IOException;
+
+    /**
+     * Resets the text buffer to contain the decoded text of the specified range.
+     */
+    protected void _resetRaw(int start, int end) throws IOException {
+        _textBuffer.emptyAndGetCurrentSegment();
+        _appendRaw(start, end);
+    }
+
+    /**
+     * Called when the end of the input buffer is reached at a point where more input could change the
+     * current token, right before it is treated as the end of input.<br>
+     * Nothing to do if the buffer holds the whole document; the {@link HoconNonBlockingParser} aborts the
+     * token here if more input may still be fed.
+     */
+    protected void _verifyEndOfInput() throws IOException { }
+
+    /*
+    /**********************************************************
+    /* Public API, traversal
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (_closed) {
+            return null;
+        }
+        if (_currToken == JsonToken.FIELD_NAME) {
+            return _nextAfterName();
+        }
+        _numTypesValid = NR_UNKNOWN;
+        _tokenIncomplete = false;
+        _binaryValue = null;
+        if (_parsingContext.inRoot()) {
+            return (_currToken == null) ? _startDocument() : _finishDocument();
+        }
+
+        int separators = _skipSeparators();
+        _updateLocation();
+        int i = _peek();
+        if (i == '}' || i == ']' || i < 0) {
+            return _closeScope(i);
+        }
+        if (_needSeparator ? separators == 0 : (separators & SEPARATOR_COMMA) != 0) {
+            _reportUnexpectedChar(i, "was expecting comma or new line to separate " + _parsingContext.typeDesc() + " entries");
+        }
+        _needSeparator = true;
+        if (_parsingContext.inObject()) {
+            return _parseFieldName(i);
+        }
+        return _parseValue(i);
+    }
+
+    @Override
+    public String getText() throws IOException {
+        if (_currToken == JsonToken.VALUE_STRING) {
+            if (_tokenIncomplete) {
+                _tokenIncomplete = false;
+                _finishString();
+            }
+            return _textBuffer.contentsAsString();
+        }
+        if (_currToken == null) {
+            return null;
+        }
+        switch (_currToken) {
+            case FIELD_NAME:
+                return _parsingContext.getCurrentName();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return _textBuffer.contentsAsString();
+            default:
+                return _currToken.asString();
+        }
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        if (_currToken == null) {
+            return null;
+        }
+        switch (_currToken) {
+            case FIELD_NAME:
+                if (!_nameCopied) {
+                    String name = _parsingContext.getCurrentName();
+                    int nameLen = name.length();
+                    if (_nameCopyBuffer == null) {
+                        _nameCopyBuffer = _ioContext.allocNameCopyBuffer(nameLen);
+                    } else if (_nameCopyBuffer.length < nameLen) {
+                        _nameCopyBuffer = new char[nameLen];
+                    }
+                    name.getChars(0, nameLen, _nameCopyBuffer, 0);
+                    _nameCopied = true;
+                }
+                return _nameCopyBuffer;
+            case VALUE_STRING:
+                if (_tokenIncomplete) {
+                    _tokenIncomplete = false;
+                    _finishString();
+                }
+                // fall through
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return _textBuffer.getTextBuffer();
+            default:
+                return _currToken.asCharArray();
+        }
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        if (_currToken == null) {
+            return 0;
+        }
+        switch (_currToken) {
+            case FIELD_NAME:
+                return _parsingContext.getCurrentName().length();
+            case VALUE_STRING:
+                if (_tokenIncomplete) {
+                    _tokenIncomplete = false;
+                    _finishString();
+                }
+                // fall through
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return _textBuffer.size();
+            default:
+                return _currToken.asCharArray().length;
+        }
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        if (_currToken == null) {
+            return 0;
+        }
+        switch (_currToken) {
+            case VALUE_STRING:
+                if (_tokenIncomplete) {
+                    _tokenIncomplete = false;
+                    _finishString();
+                }
+                // fall through
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return _textBuffer.getTextOffset();
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public Object getEmbeddedObject() {
+        return null;
+    }
+
+    @Override
+    public byte[] getBinaryValue(Base64Variant b64variant) throws IOException {
+        // Kept in line with HoconTreeTraversingParser, which has no binary content
+        return null;
+    }
+
+    @Override
+    public int readBinaryValue(Base64Variant b64variant, OutputStream out) throws IOException {
+        byte[] data = getBinaryValue(b64variant);
+        if (data != null) {
+            out.write(data, 0, data.length);
+            return data.length;
+        }
+        return 0;
+    }
+
+    /**
+     * Numbers too big for a double are exact, as BIG_DECIMAL, like in the {@link HoconTreeTraversingParser};
+     * the double value stays infinite.
+     */
+    @Override
+    protected void _parseNumericValue(int expType) throws IOException {
+        super._parseNumericValue(expType);
+        if (_currToken == JsonToken.VALUE_NUMBER_FLOAT && (_numTypesValid & (NR_DOUBLE | NR_BIGDECIMAL)) == NR_DOUBLE
+                && Double.isInfinite(_numberDouble)) {
+            _numberBigDecimal = _textBuffer.contentsAsDecimal();
+            _numTypesValid |= NR_BIGDECIMAL;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods, structure
+    /**********************************************************
+     */
+
+    protected JsonToken _startDocument() throws IOException {
+        if ((_skipSeparators() & SEPARATOR_COMMA) != 0) {
+            _reportUnexpectedChar(',', "was expecting the root object");
+        }
+        _updateLocation();
+        int i = _peek();
+        if (i < 0) {
+            _verifyEndOfInput();
+        }
+        if (i == '{') {
+            ++_inputPtr;
+        } else if (i == '[') {
+            _reportUnexpectedChar(i, "the root of a HOCON document must be an object");
+        } else {
+            _implicitRoot = true;
+        }
+        _parsingContext = _parsingContext.createChildObjectContext(_tokenInputRow, _tokenInputCol);
+        _needSeparator = false;
+        return (_currToken = JsonToken.START_OBJECT);
+    }
+
+    protected JsonToken _finishDocument() throws IOException {
+        boolean comma = (_skipSeparators() & SEPARATOR_COMMA) != 0;
+        if (_peek() < 0) {
+            _verifyEndOfInput();
+            if (!comma) {
+                _handleEOF();
+                close();
+                return (_currToken = null);
+            }
+        }
+        _updateLocation();
+        _reportUnexpectedChar(_peek(), "expected end-of-input after the root object");
+        return null;
+    }
+
+    protected JsonToken _closeScope(int i) throws IOException {
+        if (i < 0) {
+            _verifyEndOfInput();
+        }
+        if (_parsingContext.inObject()) {
+            boolean implicitRoot = _implicitRoot && _parsingContext.getParent().inRoot();
+            if (i < 0) {
+                if (!implicitRoot) {
+                    _reportInvalidEOF(": expected close marker for Object", JsonToken.END_OBJECT);
+                }
+            } else if (implicitRoot) {
+                _reportUnexpectedChar(i, "the root object was not opened with a brace");
+            } else if (i != '}') {
+                _reportMismatchedEndMarker(i, '}');
+            }
+            _currToken = JsonToken.END_OBJECT;
+        } else {
+            if (i < 0) {
+                _reportInvalidEOF(": expected close marker for Array", JsonToken.END_ARRAY);
+            } else if (i != ']') {
+                _reportMismatchedEndMarker(i, ']');
+            }
+            _currToken = JsonToken.END_ARRAY;
+        }
+        if (i >= 0) {
+            ++_inputPtr;
+        }
+        _parsingContext = _parsingContext.clearAndGetParent();
+        _needSeparator = true;
+        return _currToken;
+    }
+
+    protected JsonToken _nextAfterName() throws IOException {
+        _skipValueWhitespace();
+        _updateLocation();
+        return _parseValue(_peek());
+    }
+
+    protected JsonToken _parseFieldName(int i) throws IOException {
+        final int start = _inputPtr;
+        int ptr = start;
+        int end = start;
+        int pieces = 0;
+        int kind = 0;
+        while (true) {
+            if (i == '"') {
+                if (ptr + 2 >= _inputEnd) {
+                    _verifyEndOfInput();
+                }
+                if (_isTripleQuote(ptr)) {
+                    _reportError("Triple quoted keys are not supported by the streaming parser");
+                }
+                ptr = _scanQuoted(ptr);
+                kind = _scannedEscape ? VALUE_ESCAPED : VALUE_QUOTED;
+            } else if (_isUnquotedStart(ptr, i)) {
+                int pieceStart = ptr;
+                ptr = _scanUnquoted(ptr);
+                if (ptr >= _inputEnd) {
+                    _verifyEndOfInput();
+                }
+                for (int p = pieceStart; p < ptr; ++p) {
+                    if (_unit(p) == '.') {
+                        _reportUnsupported("path expression key");
+                    }
+                }
+                if (pieces == 0 && _matches(pieceStart, ptr, "include")) {
+                    _reportUnsupported("include");
+                }
+                kind = VALUE_UNQUOTED;
+            } else {
+                break;
+            }
+            ++pieces;
+            end = ptr;
+            ptr = _skipInlineWhitespace(ptr);
+            i = (ptr < _inputEnd) ? _unit(ptr) : -1;
+        }
+        if (pieces == 0) {
+            _reportUnexpectedChar(i, "was expecting a field name");
+        }
+        if (i == ':' || i == '=') {
+            ++ptr;
+        } else if (i == '+') {
+            _reportUnsupported("'+=' separator");
+        } else if (i != '{') {
+            _reportUnexpectedChar(i, "was expecting a colon, equals sign or open brace after the field name");
+        }
+        _inputPtr = ptr;
+        _nameCopied = false;
+        _decodeText(start, end, (pieces == 1) ? kind : VALUE_CONCATENATION);
+        _parsingContext.setCurrentName(_textBuffer.contentsAsString());
+        return (_currToken = JsonToken.FIELD_NAME);
+    }
+
+    protected JsonToken _parseValue(int i) throws IOException {
+        if (i == '{') {
+            ++_inputPtr;
+            _parsingContext = _parsingContext.createChildObjectContext(_tokenInputRow, _tokenInputCol);
+            _needSeparator = false;
+            return (_currToken = JsonToken.START_OBJECT);
+        }
+        if (i == '[') {
+            ++_inputPtr;
+            _parsingContext = _parsingContext.createChildArrayContext(_tokenInputRow, _tokenInputCol);
+            _needSeparator = false;
+            return (_currToken = JsonToken.START_ARRAY);
+        }
+        final int start = _inputPtr;
+        int ptr = start;
+        int end = start;
+        int pieces = 0;
+        int kind = 0;
+        while (true) {
+            if (i == '"') {
+                if (ptr + 2 >= _inputEnd) {
+                    _verifyEndOfInput();
+                }
+                if (_isTripleQuote(ptr)) {
+                    ptr = _scanTripleQuoted(ptr, true);
+                    kind = VALUE_TRIPLE_QUOTED;
+                } else {
+                    ptr = _scanQuoted(ptr);
+                    kind = _scannedEscape ? VALUE_ESCAPED : VALUE_QUOTED;
+                }
+            } else if (_isUnquotedStart(ptr, i)) {
+                ptr = _scanUnquotedValue(ptr);
+                kind = VALUE_UNQUOTED;
+            } else {
+                break;
+            }
+            ++pieces;
+            end = ptr;
+            ptr = _skipInlineWhitespace(ptr);
+            i = (ptr < _inputEnd) ? _unit(ptr) : -1;
+        }
+        if (i < 0) {
+            // the value may continue
+            _verifyEndOfInput();
+        }
+        if (pieces == 0) {
+            if (i == '$') {
+                _reportUnsupported("substitution");
+            }
+            if (i < 0) {
+                _reportInvalidEOF(": was expecting a value", JsonToken.VALUE_STRING);
+            }
+            _reportUnexpectedChar(i, "was expecting a value");
+        }
+        _inputPtr = ptr;
+        _valueStart = start;
+        _valueEnd = end;
+        if (pieces > 1) {
+            _valueKind = VALUE_CONCATENATION;
+        } else {
+            _valueKind = kind;
+            if (kind == VALUE_UNQUOTED) {
+                JsonToken t = _matchUnquotedValue(start, end);
+                if (t != null) {
+                    return (_currToken = t);
+                }
+            }
+        }
+        _tokenIncomplete = true;
+        return (_currToken = JsonToken.VALUE_STRING);
+    }
+
+    /**
+     * Matches single unquoted values, that are not just Strings.
+     * Numbers are parsed the same way Typesafe Config does, so values that are too large for a long,
+     * or are no valid number, stay Strings.
+     *
+     * @return The matching token, or null if the value is a String.
+     */
+    protected JsonToken _matchUnquotedValue(int start, int end) throws IOException {
+        int c = _unit(start);
+        if (c == 't') {
+            return _matches(start, end, "true") ? JsonToken.VALUE_TRUE : null;
+        }
+        if (c == 'f') {
+            return _matches(start, end, "false") ? JsonToken.VALUE_FALSE : null;
+        }
+        if (c == 'n') {
+            return _matches(start, end, "null") ? JsonToken.VALUE_NULL : null;
+        }
+        if (c != '-' && (c < '0' || c > '9')) {
+            return null;
+        }
+        // Like the Typesafe Config tokenizer: the number ends at the first char that can not be part of it
+        boolean negative = (c == '-');
+        int intLen = 0;
+        int fractLen = 0;
+        int expLen = 0;
+        boolean floating = false;
+        int ptr = start;
+        for (; ptr < end; ++ptr) {
+            c = _unit(ptr);
+            if (c >= '0' && c <= '9') {
+                if (expLen > 0) {
+                    ++expLen;
+                } else if (floating) {
+                    ++fractLen;
+                } else {
+                    ++intLen;
+                }
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                floating = true;
+                if (c != '.') {
+                    ++expLen;
+                }
+            } else if (c != '-' && c != '+') {
+                break;
+            }
+        }
+        _resetRaw(start, ptr);
+        String text = _textBuffer.contentsAsString();
+        double value = 0.0;
+        try {
+            if (floating) {
+                value = Double.parseDouble(text);
+            } else {
+                Long.parseLong(text);
+            }
+        } catch (NumberFormatException e) {
+            if (text.indexOf('+') >= 0) {
+                _reportUnexpectedChar('+', "reserved character '+' is not allowed outside quotes");
+            }
+            return null;
+        }
+        if (ptr < end) {
+            // Number followed by text, which is concatenated to a String
+            return null;
+        }
+        if (floating) {
+            long asLong = (long) value;
+            if (asLong != value) {
+                return resetFloat(negative, intLen, fractLen, expLen);
+            }
+            // Like Typesafe Config, a whole number is an integer even if written as floating point
+            text = Long.toString(asLong);
+            char[] buf = _textBuffer.emptyAndGetCurrentSegment();
+            text.getChars(0, text.length(), buf, 0);
+            _textBuffer.setCurrentLength(text.length());
+            negative = asLong < 0;
+            intLen = negative ? text.length() - 1 : text.length();
+        }
+        return resetInt(negative, intLen);
+    }
+
+    @Override
+    protected void _finishString() throws IOException {
+        _decodeText(_valueStart, _valueEnd, _valueKind);
+    }
+
+    /**
+     * Decodes the text of the specified range into the text buffer.
+     * The range consists of quoted, triple quoted and unquoted pieces, that may be separated by whitespace.
+     */
+    protected void _decodeText(int start, int end, int kind) throws IOException {
+        switch (kind) {
+            case VALUE_UNQUOTED:
+                _resetRaw(start, end);
+                return;
+            case VALUE_QUOTED:
+                _resetRaw(start + 1, end - 1);
+                return;
+            case VALUE_TRIPLE_QUOTED:
+                _resetRaw(start + 3, end - 3);
+                return;
+            default:
+        }
+        _textBuffer.emptyAndGetCurrentSegment();
+        int ptr = start;
+        while (ptr < end) {
+            if (_unit(ptr) != '"') {
+                int runStart = ptr;
+                while (ptr < end && _unit(ptr) != '"') {
+                    ++ptr;
+                }
+                _appendRaw(runStart, ptr);
+            } else if (_isTripleQuote(ptr)) {
+                int tripleEnd = _scanTripleQuoted(ptr, false);
+                _appendRaw(ptr + 3, tripleEnd - 3);
+                ptr = tripleEnd;
+            } else {
+                ptr = _appendUnescaped(ptr);
+            }
+        }
+    }
+
+    /**
+     * Appends the content of the quoted string starting at the specified position to the text buffer.
+     *
+     * @return The position after the closing quote.
+     */
+    protected int _appendUnescaped(int ptr) throws IOException {
+        int runStart = ++ptr;
+        while (true) {
+            int c = _unit(ptr);
+            if (c == '"') {
+                break;
+            }
+            if (c != '\\') {
+                ++ptr;
+                continue;
+            }
+            _appendRaw(runStart, ptr);
+            c = _unit(ptr + 1);
+            ptr += 2;
+            switch (c) {
+                case 'b':
+                    c = '\b';
+                    break;
+                case 'f':
+                    c = '\f';
+                    break;
+                case 'n':
+                    c = '\n';
+                    break;
+                case 'r':
+                    c = '\r';
+                    break;
+                case 't':
+                    c = '\t';
+                    break;
+                case 'u':
+                    c = 0;
+                    for (int end = ptr + 4; ptr < end; ++ptr) {
+                        c = (c << 4) | Character.digit(_unit(ptr), 16);
+                    }
+                    break;
+                default: // '"', '\\' and '/' stand for themselves
+            }
+            _textBuffer.append((char) c);
+            runStart = ptr;
+        }
+        _appendRaw(runStart, ptr);
+        return ptr + 1;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods, scanning
+    /**********************************************************
+     */
+
+    protected final int _peek() {
+        return (_inputPtr < _inputEnd) ? _unit(_inputPtr) : -1;
+    }
+
+    protected final void _updateLocation() {
+        _tokenLocation = null;
+        _tokenInputTotal = _currInputProcessed + _inputPtr;
+        _tokenInputRow = _currInputRow;
+        _tokenInputCol = _inputPtr - _currInputRowStart;
+    }
+
+    /**
+     * Skips whitespace, new lines, comments and at most one comma.
+     *
+     * @return Flags of the {@link #SEPARATOR_NEWLINE new lines} and {@link #SEPARATOR_COMMA comma} that were skipped.
+     */
+    protected final int _skipSeparators() throws IOException {
+        int separators = 0;
+        int ptr = _inputPtr;
+        while (ptr < _inputEnd) {
+            int c = _unit(ptr);
+            if (c >= 128) {
+                int ws = _nonAsciiWhitespace(ptr);
+                if (ws == 0) {
+                    break;
+                }
+                ptr += ws;
+                continue;
+            }
+            int code = CHAR_CODES[c];
+            if (code == CC_WHITESPACE) {
+                ++ptr;
+            } else if (code == CC_NEWLINE) {
+                ++ptr;
+                ++_currInputRow;
+                _currInputRowStart = ptr;
+                separators |= SEPARATOR_NEWLINE;
+            } else if (_isCommentStart(ptr, c)) {
+                while (ptr < _inputEnd) {
+                    c = _unit(ptr);
+                    if (c == '\n') {
+                        break;
+                    }
+                    ptr += (c >= 128) ? _nonAsciiLength(ptr) : 1;
+                }
+            } else if (c == ',' && (separators & SEPARATOR_COMMA) == 0) {
+                ++ptr;
+                separators |= SEPARATOR_COMMA;
+            } else {
+                break;
+            }
+        }
+        _inputPtr = ptr;
+        return separators;
+    }
+
+    /**
+     * Skips whitespace and new lines between a field separator and its value.
+     */
+    protected final void _skipValueWhitespace() throws IOException {
+        int ptr = _inputPtr;
+        while (ptr < _inputEnd) {
+            int c = _unit(ptr);
+            if (c >= 128) {
+                int ws = _nonAsciiWhitespace(ptr);
+                if (ws == 0) {
+                    break;
+                }
+                ptr += ws;
+                continue;
+            }
+            int code = CHAR_CODES[c];
+            if (code == CC_NEWLINE) {
+                ++_currInputRow;
+                _currInputRowStart = ptr + 1;
+            } else if (code != CC_WHITESPACE) {
+                break;
+            }
+            ++ptr;
+        }
+        _inputPtr = ptr;
+    }
+
+    /**
+     * @return The position of the first character at or after the specified one, that is no whitespace
+     * or is a new line.
+     */
+    protected final int _skipInlineWhitespace(int ptr) throws IOException {
+        while (ptr < _inputEnd) {
+            int c = _unit(ptr);
+            if (c >= 128) {
+                int ws = _nonAsciiWhitespace(ptr);
+                if (ws == 0) {
+                    break;
+                }
+                ptr += ws;
+            } else if (CHAR_CODES[c] == CC_WHITESPACE) {
+                ++ptr;
+            } else {
+                break;
+            }
+        }
+        return ptr;
+    }
+
+    protected final boolean _isCommentStart(int ptr, int c) throws IOException {
+        if (c == '#') {
+            return true;
+        }
+        if (c != '/') {
+            return false;
+        }
+        if (ptr + 1 >= _inputEnd) {
+            _verifyEndOfInput();
+            return false;
+        }
+        return _unit(ptr + 1) == '/';
+    }
+
+    protected final boolean _isUnquotedStart(int ptr, int c) throws IOException {
+        if (c < 0) {
+            return false;
+        }
+        if (c >= 128) {
+            return _nonAsciiWhitespace(ptr) == 0;
+        }
+        return CHAR_CODES[c] == CC_TEXT && !_isCommentStart(ptr, c);
+    }
+
+    protected final boolean _isTripleQuote(int ptr) {
+        return ptr + 2 < _inputEnd && _unit(ptr + 1) == '"' && _unit(ptr + 2) == '"';
+    }
+
+    /**
+     * @return The position after the unquoted text starting at the specified position.
+     */
+    protected final int _scanUnquoted(int ptr) throws IOException {
+        while (ptr < _inputEnd) {
+            int c = _unit(ptr);
+            if (c >= 128) {
+                if (_nonAsciiWhitespace(ptr) != 0) {
+                    break;
+                }
+                ptr += _nonAsciiLength(ptr);
+                continue;
+            } else if (CHAR_CODES[c] != CC_TEXT || _isCommentStart(ptr, c)) {
+                break;
+            }
+            ++ptr;
+        }
+        return ptr;
+    }
+
+    /**
+     * Same as {@link #_scanUnquoted(int)}, but also includes the '+' of numbers
+     * (like {@code 1e+5}), the same way the Typesafe Config tokenizer does.
+     *
+     * @return The position after the unquoted text starting at the specified position.
+     */
+    protected final int _scanUnquotedValue(int ptr) throws IOException {
+        int c = _unit(ptr);
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            while (++ptr < _inputEnd) {
+                c = _unit(ptr);
+                if ((c < '0' || c > '9') && c != 'e' && c != 'E' && c != '+' && c != '-' && c != '.') {
+                    break;
+                }
+            }
+        }
+        return _scanUnquoted(ptr);
+    }
+
+    /**
+     * @return The position after the closing quote of the quoted string starting at the specified position.
+     */
+    protected final int _scanQuoted(int ptr) throws IOException {
+        boolean escaped = false;
+        while (true) {
+            if (++ptr >= _inputEnd) {
+                _reportInvalidEOF(": was expecting closing quote for a string value", JsonToken.VALUE_STRING);
+            }
+            int c = _unit(ptr);
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                escaped = true;
+                ptr = _scanEscape(ptr);
+            } else if (c < 0x20) {
+                _reportUnexpectedChar(c, "control characters must be escaped in quoted strings");
+            } else if (c >= 128) {
+                ptr += _nonAsciiLength(ptr) - 1;
+            }
+        }
+        _scannedEscape = escaped;
+        return ptr + 1;
+    }
+
+    /**
+     * @return The position of the last character of the escape sequence starting at the specified position.
+     */
+    private int _scanEscape(int ptr) throws IOException {
+        if (++ptr >= _inputEnd) {
+            _reportInvalidEOF(": was expecting closing quote for a string value", JsonToken.VALUE_STRING);
+        }
+        int c = _unit(ptr);
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return ptr;
+            case 'u':
+                for (int i = 0; i < 4; ++i) {
+                    if (++ptr >= _inputEnd) {
+                        _reportInvalidEOF(" in character escape sequence", JsonToken.VALUE_STRING);
+                    }
+                    c = _unit(ptr);
+                    if (c >= 128 || Character.digit(c, 16) < 0) {
+                        _reportUnexpectedChar(c, "expected a hex-digit for character escape sequence");
+                    }
+                }
+                return ptr;
+            default:
+                _reportError("Unrecognized character escape " + _getCharDesc(c));
+                return ptr;
+        }
+    }
+
+    /**
+     * Scans a triple quoted string. The string ends at the first three quotes that are not followed
+     * by another quote; any additional quotes before those belong to the string.
+     *
+     * @param trackLines If the row of the current location should be updated.
+     * @return The position after the closing quotes.
+     */
+    protected final int _scanTripleQuoted(int ptr, boolean trackLines) throws IOException {
+        ptr += 3;
+        int quotes = 0;
+        while (ptr < _inputEnd) {
+            int c = _unit(ptr);
+            if (c == '"') {
+                ++quotes;
+            } else if (quotes >= 3) {
+                return ptr;
+            } else {
+                quotes = 0;
+                if (c == '\n' && trackLines) {
+                    ++_currInputRow;
+                    _currInputRowStart = ptr + 1;
+                } else if (c >= 128) {
+                    ptr += _nonAsciiLength(ptr) - 1;
+                }
+            }
+            ++ptr;
+        }
+        if (quotes < 3) {
+            _reportInvalidEOF(": was expecting closing quotes for a triple quoted string", JsonToken.VALUE_STRING);
+        }
+        // more quotes may still belong to the string
+        _verifyEndOfInput();
+        return ptr;
+    }
+
+    protected final boolean _matches(int start, int end, String text) {
+        int len = text.length();
+        if (end - start != len) {
+            return false;
+        }
+        for (int i = 0; i < len; ++i) {
+            if (_unit(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void _reportUnsupported(String what) throws JsonParseException {
+        _reportError("Unsupported HOCON " + what + ": requires a resolved Config tree, which the streaming parser does not build"
+                + " (disable HoconReadFeature.STRICT_STREAMING_PARSER to read such documents)");
+    }
+
+    /**
+     * Same as {@link com.typesafe.config.impl.ConfigImplUtil#isWhitespace(int)}, which includes the
+     * non-breaking spaces and the BOM.
+     */
+    protected static boolean isHoconWhitespace(int codepoint) {
+        switch (codepoint) {
+            case ' ':
+            case '\n':
+            case '\u00A0':
+            case '\u2007':
+            case '\u202F':
+            case '\uFEFF':
+                return true;
+            default:
+                return Character.isWhitespace(codepoint);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Binds a Config tree to beans by looking up the properties of each bean in its ConfigObject, instead of
+ * turning the whole tree into tokens for the {@link BeanDeserializer}s.<br>
+ * <br>
+ * Only plain beans (created with their default constructor and set through setters or fields) are bound
+ * directly, and only if every key of their object is one of their properties. All other values, like
+ * scalars, lists, maps, polymorphic values or beans with creators, are deserialized by their usual
+ * deserializer from the same parser, that is moved to the value; so annotations, coercions and error
+ * handling stay the same. The parsing context of those values is the same as for the token stream,
+ * so {@link HoconNodeCursor#constructPath()} keeps working in custom deserializers.
+ *
+ * @see HoconMapper#setDirectBinding(boolean)
+ */
+public class HoconTreeBinder {
+
+    protected final DeserializationContext _context;
+
+    protected final HoconTreeTraversingParser _parser;
+
+    /**
+     * Whether the beans handled by deserializers can be bound directly; shared between reads, as it only
+     * depends on the deserializer.
+     */
+    protected final Map<JsonDeserializer<?>, Boolean> _bindable;
+
+    public HoconTreeBinder(DeserializationContext context, HoconTreeTraversingParser parser, Map<JsonDeserializer<?>, Boolean> bindable) {
+        _context = context;
+        _parser = parser;
+        _bindable = bindable;
+    }
+
+    /**
+     * @return The bean bound from the root of the parser, or null if the root deserializer does not
+     * handle a bean that can be bound directly, so that the parser must be read as usual.
+     */
+    public Object bindRoot(JsonDeserializer<Object> deserializer) throws IOException {
+        ConfigValue root = _parser.getRootValue();
+        if (_context.getActiveView() != null || !_isBindable(deserializer, root)) {
+            return null;
+        }
+        return _bind(new HoconNodeCursor.RootValue(root, null), (ConfigObject) root, (BeanDeserializer) deserializer);
+    }
+
+    protected Object _bind(HoconNodeCursor parent, ConfigObject object, BeanDeserializer deserializer) throws IOException {
+        Object bean = deserializer.getValueInstantiator().createUsingDefault(_context);
+        HoconNodeCursor.Field cursor = new HoconNodeCursor.Field(parent);
+        cursor.setCurrentValue(bean);
+        for (Iterator<SettableBeanProperty> it = deserializer.properties(); it.hasNext(); ) {
+            SettableBeanProperty property = it.next();
+            ConfigValue value = object.get(property.getName());
+            if (value == null) {
+                continue;
+            }
+            cursor.moveTo(property.getName(), value);
+            try {
+                JsonDeserializer<Object> valueDeserializer = property.getValueDeserializer();
+                boolean plain = (property instanceof MethodProperty || property instanceof FieldProperty) && property.getValueTypeDeserializer() == null;
+                Object scalar;
+                if (plain && _isBindable(valueDeserializer, value)) {
+                    property.set(bean, _bind(cursor, (ConfigObject) value, (BeanDeserializer) valueDeserializer));
+                } else if (plain && (scalar = _scalar(property, valueDeserializer, value)) != null) {
+                    property.set(bean, scalar);
+                } else {
+                    _parser._moveTo(cursor);
+                    _parser.nextToken();
+                    property.deserializeAndSet(_parser, _context, bean);
+                }
+            } catch (Exception e) {
+                deserializer.wrapAndThrow(e, bean, property.getName(), _context);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Scalars that are of exactly the type of the property, and would be deserialized by a standard
+     * deserializer, are set without the parser; everything else (like coercions) is left to the deserializer.
+     *
+     * @return The value to set, or null if it must be deserialized.
+     */
+    protected Object _scalar(SettableBeanProperty property, JsonDeserializer<Object> deserializer, ConfigValue value) {
+        if (!ClassUtil.isJacksonStdImpl(deserializer)) {
+            return null;
+        }
+        Class<?> type = property.getType().getRawClass();
+        if (type.isPrimitive()) {
+            type = ClassUtil.wrapperType(type);
+        }
+        switch (value.valueType()) {
+            case STRING:
+                return (type == String.class) ? value.unwrapped() : null;
+            case BOOLEAN:
+                return (type == Boolean.class) ? value.unwrapped() : null;
+            case NUMBER:
+                Object number = value.unwrapped();
+                if (type == number.getClass()) {
+                    return number;
+                }
+                if (type == Long.class && number instanceof Integer) {
+                    return ((Integer) number).longValue();
+                }
+                if (type == Double.class && !(number instanceof Double)) {
+                    return ((Number) number).doubleValue();
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return true if the deserializer handles a plain bean and all keys of the value are its properties.
+     */
+    protected boolean _isBindable(JsonDeserializer<?> deserializer, ConfigValue value) {
+        if (deserializer == null || !(value instanceof ConfigObject) || !_bindable.computeIfAbsent(deserializer, this::_isPlainBean)) {
+            return false;
+        }
+        ConfigObject object = (ConfigObject) value;
+        BeanDeserializer beanDeserializer = (BeanDeserializer) deserializer;
+        int known = 0;
+        for (Iterator<SettableBeanProperty> it = beanDeserializer.properties(); it.hasNext(); ) {
+            if (object.containsKey(it.next().getName())) {
+                ++known;
+            }
+        }
+        // unknown keys are left to the deserializer, which knows how to handle (or report) them
+        return known == object.size();
+    }
+
+    protected boolean _isPlainBean(JsonDeserializer<?> deserializer) {
+        // sub-classes handle builders, throwables and the like
+        if (deserializer.getClass() != BeanDeserializer.class) {
+            return false;
+        }
+        BeanDeserializer beanDeserializer = (BeanDeserializer) deserializer;
+        ValueInstantiator instantiator = beanDeserializer.getValueInstantiator();
+        if (!instantiator.canCreateUsingDefault() || instantiator.canCreateFromObjectWith()
+                || instantiator.canCreateUsingDelegate() || instantiator.canCreateUsingArrayDelegate()
+                || beanDeserializer.getObjectIdReader() != null) {
+            return false;
+        }
+        JavaType type = beanDeserializer.getValueType();
+        if (type == null) {
+            return false;
+        }
+        BeanDescription description = _context.getConfig().introspect(type);
+        if (description.findInjectables() != null && !description.findInjectables().isEmpty()) {
+            return false;
+        }
+        AnnotationIntrospector introspector = _context.getAnnotationIntrospector();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            // unwrapped properties are read from the keys of the bean itself
+            if (property.getPrimaryMember() != null && introspector.findUnwrappingNameTransformer(property.getPrimaryMember()) != null) {
+                return false;
+            }
+        }
+        for (Iterator<SettableBeanProperty> it = beanDeserializer.properties(); it.hasNext(); ) {
+            TypeDeserializer typeDeserializer = it.next().getValueTypeDeserializer();
+            // external type ids are read from the sibling properties
+            if (typeDeserializer != null && typeDeserializer.getTypeInclusion() == JsonTypeInfo.As.EXTERNAL_PROPERTY) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -14,11 +14,12 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.typesafe.config.ConfigList;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueType;
 
-public class HoconTreeTraversingParser extends ParserMinimalBase {
+public class HoconTreeTraversingParser extends ParserMinimalBase implements HoconIndexedObjectParser {
 
 	/*
     /**********************************************************
@@ -28,11 +29,27 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
 
     protected ObjectCodec _objectCodec;
 
+    /**
+     * Bit flag composed of bits that indicate which
+     * {@link HoconReadFeature}s are enabled.
+     */
+    protected int _formatFeatures;
+
     /**
      * Traversal context within tree
      */
     protected HoconNodeCursor _nodeCursor;
 
+    /**
+     * Cursor of the root value; reused by {@link #reset(ConfigObject, ConfigValue)}.
+     */
+    protected final HoconNodeCursor.RootValue _rootCursor;
+
+    /**
+     * Cursors of the objects and arrays, reused for every container of the same depth.
+     */
+    protected final HoconNodeCursor.Stack _cursors = new HoconNodeCursor.Stack();
+
     /*
     /**********************************************************
     /* State
@@ -52,7 +69,59 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
      */
     protected boolean _closed;
 
-    private final ConfigObject _rootObject;
+    /**
+     * Numeric node that the number state below belongs to; numbers are unwrapped once per node,
+     * no matter how many accessors are called.
+     */
+    protected ConfigValue _numberNode;
+
+    /**
+     * Type of {@link #_numberNode}: INT, LONG or DOUBLE as unwrapped, or BIG_DECIMAL if it is too big for a
+     * double, which is unwrapped as an infinite Double.
+     */
+    protected NumberType _numberType;
+
+    /**
+     * Value of {@link #_numberNode} if it is an INT or LONG.
+     */
+    protected long _numberLong;
+
+    /**
+     * Value of {@link #_numberNode} as a double, for all types.
+     */
+    protected double _numberDouble;
+
+    /**
+     * Text of {@link #_numberNode} as it was written; converted when first needed.
+     */
+    protected String _numberText;
+
+    /**
+     * Exact value of {@link #_numberNode}; converted when first needed, except for BIG_DECIMAL.
+     */
+    protected BigDecimal _numberBigDecimal;
+
+    /**
+     * Buffer that {@link #getTextCharacters()} copies text into; reused for all tokens.
+     */
+    protected char[] _textBuffer;
+
+    /**
+     * Text that {@link #_textBuffer} currently holds, so that repeated calls for the same token
+     * do not copy it again.
+     */
+    protected String _textBufferSource;
+
+    /**
+     * Node that {@link #_location} belongs to; locations are created when first asked for, once per node.
+     */
+    protected ConfigValue _locationNode;
+
+    protected JsonLocation _location;
+
+    private ConfigObject _rootObject;
+
+    private ConfigValue _rootValue;
 
     /**
      * HOCON specific getter for the originating ConfigObject. Useful for
@@ -63,6 +132,14 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
     public ConfigObject getConfigObject() {
         return _rootObject;
     }
+
+    /**
+     * @return The value this parser reads; the ConfigObject, unless the parser was created to read only a
+     * value inside it.
+     */
+    public ConfigValue getRootValue() {
+        return _rootValue;
+    }
     
     /*
     /**********************************************************
@@ -73,11 +150,67 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
     public HoconTreeTraversingParser(ConfigObject n) { this(n, null); }
 
     public HoconTreeTraversingParser(ConfigObject n, ObjectCodec codec)
+    {
+        this(n, codec, HoconReadFeature.collectDefaults());
+    }
+
+    public HoconTreeTraversingParser(ConfigObject n, ObjectCodec codec, int formatFeatures)
+    {
+        this(n, n, codec, formatFeatures);
+    }
+
+    /**
+     * Creates a parser that reads only the given value of the ConfigObject, as if it was the root value.
+     *
+     * @param n The ConfigObject, see {@link #getConfigObject()}.
+     * @param value The value to read, somewhere inside the ConfigObject.
+     */
+    public HoconTreeTraversingParser(ConfigObject n, ConfigValue value, ObjectCodec codec, int formatFeatures)
     {
         super(0);
         _rootObject = n;
+        _rootValue = value;
         _objectCodec = codec;
-        _nodeCursor = new HoconNodeCursor.RootValue(n, null);
+        _formatFeatures = formatFeatures;
+        _rootCursor = new HoconNodeCursor.RootValue(value, null);
+        _nodeCursor = _rootCursor;
+    }
+
+    /**
+     * Prepares the parser to read another ConfigObject, as if it was newly created for it, while
+     * keeping the codec, features and buffers.<br>
+     * Allows to reuse one parser (per thread) for many reads, without allocating a new parser and
+     * its cursors each time. Works for closed parsers as well.
+     *
+     * @return This parser.
+     */
+    public HoconTreeTraversingParser reset(ConfigObject n) {
+        return reset(n, n);
+    }
+
+    /**
+     * Prepares the parser to read only the given value of the ConfigObject, see {@link #reset(ConfigObject)}.
+     *
+     * @param n The ConfigObject, see {@link #getConfigObject()}.
+     * @param value The value to read, somewhere inside the ConfigObject.
+     * @return This parser.
+     */
+    public HoconTreeTraversingParser reset(ConfigObject n, ConfigValue value) {
+        _rootObject = n;
+        _rootValue = value;
+        _nodeCursor = _rootCursor.reset(value);
+        _currToken = null;
+        _lastClearedToken = null;
+        _nextToken = null;
+        _closed = false;
+        _numberNode = null;
+        _numberType = null;
+        _numberText = null;
+        _numberBigDecimal = null;
+        _textBufferSource = null;
+        _locationNode = null;
+        _location = null;
+        return this;
     }
 
     public static JsonToken asJsonToken(ConfigValue value) {
@@ -116,6 +249,17 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
         return _objectCodec;
     }
 
+    @Override
+    public int getFormatFeatures() {
+        return _formatFeatures;
+    }
+
+    @Override
+    public JsonParser overrideFormatFeatures(int values, int mask) {
+        _formatFeatures = (_formatFeatures & ~mask) | (values & mask);
+        return this;
+    }
+
     @Override
     public Version version() {
         return com.fasterxml.jackson.databind.cfg.PackageVersion.VERSION;
@@ -133,7 +277,12 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
         if (!_closed) {
             _closed = true;
             _nodeCursor = null;
+            _cursors.release();
             _currToken = null;
+            // the buffer is kept for reset(), only the text it holds is released
+            _textBufferSource = null;
+            _locationNode = null;
+            _location = null;
         }
     }
 
@@ -153,10 +302,10 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
         }
         switch (_currToken) {
             case START_OBJECT:
-                _nodeCursor = _nodeCursor.startObject();
+                _nodeCursor = _cursors.startObject(_nodeCursor);
                 break;
             case START_ARRAY:
-                _nodeCursor = _nodeCursor.startArray();
+                _nodeCursor = _cursors.startArray(_nodeCursor);
                 break;
             case END_OBJECT:
             case END_ARRAY:
@@ -170,6 +319,65 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
     // default works well here:
     //public JsonToken nextValue() throws IOException, JsonParseException
 
+    /**
+     * Moves the parser before the current value of the cursor, as if it had traversed the tree up to it.
+     * The cursor must belong to the tree of this parser.
+     */
+    protected void _moveTo(HoconNodeCursor cursor) {
+        _nodeCursor = cursor;
+        _currToken = null;
+        _nextToken = null;
+    }
+
+    /**
+     * HOCON specific method to get the size of the current array or object, so deserializers can allocate
+     * their collections and arrays in their final size.<br>
+     * On a {@code START_ARRAY} or {@code START_OBJECT} token it is the size of the array or object that starts,
+     * otherwise the size of the array or object the current token is in. Objects whose entries are ordered by
+     * {@link #orderIndexedEntries()} only count the entries that are left.
+     *
+     * @return The number of elements of the array, or entries of the object; -1 outside of arrays and objects.
+     */
+    public int getContainerSize() {
+        return (_nodeCursor == null) ? -1 : _nodeCursor.containerSize();
+    }
+
+    /**
+     * @return The size of the current array or object (see {@link #getContainerSize()}), or -1 if the parser does not know it.
+     */
+    public static int containerSize(JsonParser p) {
+        return (p instanceof HoconTreeTraversingParser) ? ((HoconTreeTraversingParser) p).getContainerSize() : -1;
+    }
+
+    /**
+     * HOCON specific method to read the array that starts at the current {@code START_ARRAY} token at once,
+     * instead of token by token; useful for deserializers of large arrays.<br>
+     * To continue after the array, skip it with {@link #skipChildren()}.
+     *
+     * @return The list of the array, or null if the parser is not on a {@code START_ARRAY} token.
+     */
+    public ConfigList getCurrentList() {
+        if (_currToken != JsonToken.START_ARRAY || !(_nodeCursor instanceof HoconNodeCursor.Array)) {
+            return null;
+        }
+        return ((HoconNodeCursor.Array) _nodeCursor).unreadList();
+    }
+
+    /**
+     * @return The list of the array that starts at the current token (see {@link #getCurrentList()}), or null if the parser does not know it.
+     */
+    public static ConfigList currentList(JsonParser p) {
+        return (p instanceof HoconTreeTraversingParser) ? ((HoconTreeTraversingParser) p).getCurrentList() : null;
+    }
+
+    @Override
+    public boolean orderIndexedEntries() {
+        if (_currToken != JsonToken.START_OBJECT || !(_nodeCursor instanceof HoconNodeCursor.Object)) {
+            return false;
+        }
+        return ((HoconNodeCursor.Object) _nodeCursor).orderByIndex();
+    }
+
     @Override
     public JsonParser skipChildren() throws IOException, JsonParseException
     {
@@ -222,13 +430,20 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
     @Override
     public JsonLocation getTokenLocation() {
         final ConfigValue node = currentNode();
-        return node == null ? JsonLocation.NA : new HoconJsonLocation(node.origin());
+        if (node == null || !HoconReadFeature.TOKEN_LOCATIONS.enabledIn(_formatFeatures)) {
+            return JsonLocation.NA;
+        }
+        if (node != _locationNode) {
+            _locationNode = node;
+            _location = new HoconJsonLocation(node.origin());
+        }
+        return _location;
     }
 
     @Override
     public JsonLocation getCurrentLocation() {
-        final ConfigValue node = currentNode();
-        return node == null ? JsonLocation.NA : new HoconJsonLocation(node.origin());
+        // nodes are read as a whole
+        return getTokenLocation();
     }
 
     /*
@@ -251,7 +466,12 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
                 return (String) currentNode().unwrapped();
             case VALUE_NUMBER_INT:
             case VALUE_NUMBER_FLOAT:
-                return String.valueOf(currentNode().unwrapped());
+                try {
+                    return _numberText();
+                } catch (JsonParseException e) {
+                    // can not happen for a numeric token, but getText() declares no exception
+                    return String.valueOf(currentNode().unwrapped());
+                }
             case VALUE_EMBEDDED_OBJECT:
                 throw new UnsupportedOperationException("VALUE_EMBEDDED_OBJECT is not supported by HOCON");
             default:
@@ -259,14 +479,32 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
         }
     }
 
+    /**
+     * Copies the text into a buffer that is reused for all tokens, so the returned array is only valid
+     * until the next token; see {@link JsonParser#getTextCharacters()}.
+     */
     @Override
     public char[] getTextCharacters() throws IOException, JsonParseException {
-        return getText().toCharArray();
+        String text = getText();
+        if (text == null) {
+            return null;
+        }
+        // the text of a token is always the same instance
+        if (text != _textBufferSource) {
+            int len = text.length();
+            if (_textBuffer == null || _textBuffer.length < len) {
+                _textBuffer = new char[Math.max(len, (_textBuffer == null) ? 64 : _textBuffer.length + (_textBuffer.length >> 1))];
+            }
+            text.getChars(0, len, _textBuffer, 0);
+            _textBufferSource = text;
+        }
+        return _textBuffer;
     }
 
     @Override
     public int getTextLength() throws IOException, JsonParseException {
-        return getText().length();
+        String text = getText();
+        return (text == null) ? 0 : text.length();
     }
 
     @Override
@@ -276,8 +514,8 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
 
     @Override
     public boolean hasTextCharacters() {
-        // generally we do not have efficient access as char[], hence:
-        return false;
+        // copied into a reused buffer, without allocating
+        return _currToken == JsonToken.VALUE_STRING || _currToken == JsonToken.FIELD_NAME;
     }
 
     /*
@@ -290,56 +528,94 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
 
     @Override
     public NumberType getNumberType() throws IOException, JsonParseException {
-        ConfigValue n = currentNumericNode();
-        if(n == null)
+        if (currentNode() == null) {
             return null;
-
-        Number value = (Number) n.unwrapped();
-        if(value instanceof Double) {
-            return NumberType.DOUBLE;
-        } else if(value instanceof Long) {
-            return NumberType.LONG;
-        } else {
-            return NumberType.INT;
         }
+        return _number();
     }
 
     @Override
     public BigInteger getBigIntegerValue() throws IOException, JsonParseException {
-        //I wish we could get at the string representation instead
-        long value = ((Number)  currentNumericNode().unwrapped()).longValue();
-        return BigInteger.valueOf(value);
+        NumberType type = _number();
+        if (type == NumberType.INT || type == NumberType.LONG) {
+            return BigInteger.valueOf(_numberLong);
+        }
+        return getDecimalValue().toBigInteger();
     }
 
     @Override
     public BigDecimal getDecimalValue() throws IOException, JsonParseException {
-        double value = ((Number) currentNumericNode().unwrapped()).doubleValue();
-        return BigDecimal.valueOf(value);
+        NumberType type = _number();
+        if (_numberBigDecimal == null) {
+            String text = _numberText();
+            if ((type == NumberType.INT || type == NumberType.LONG) && _isPlainInteger(text)) {
+                _numberBigDecimal = BigDecimal.valueOf(_numberLong);
+            } else {
+                // the text is exact, a double may not be; and "1.0" is unwrapped as Integer
+                try {
+                    _numberBigDecimal = new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    _numberBigDecimal = (type == NumberType.DOUBLE) ? BigDecimal.valueOf(_numberDouble) : BigDecimal.valueOf(_numberLong);
+                }
+            }
+        }
+        return _numberBigDecimal;
     }
 
     @Override
     public double getDoubleValue() throws IOException, JsonParseException {
-        return ((Number) currentNumericNode().unwrapped()).doubleValue();
+        _number();
+        return _numberDouble;
     }
 
     @Override
     public float getFloatValue() throws IOException, JsonParseException {
-        return ((Number) currentNumericNode().unwrapped()).floatValue();
+        _number();
+        return (float) _numberDouble;
     }
 
     @Override
     public long getLongValue() throws IOException, JsonParseException {
-        return ((Number) currentNumericNode().unwrapped()).longValue();
+        NumberType type = _number();
+        if (type == NumberType.BIG_DECIMAL) {
+            reportOverflowLong();
+        }
+        return (type == NumberType.DOUBLE) ? (long) _numberDouble : _numberLong;
     }
 
     @Override
     public int getIntValue() throws IOException, JsonParseException {
-        return ((Number) currentNumericNode().unwrapped()).intValue();
+        NumberType type = _number();
+        if (type == NumberType.BIG_DECIMAL || (type == NumberType.LONG && (int) _numberLong != _numberLong)) {
+            reportOverflowInt();
+        }
+        return (type == NumberType.DOUBLE) ? (int) _numberDouble : (int) _numberLong;
     }
 
     @Override
     public Number getNumberValue() throws IOException, JsonParseException {
-        return (Number) currentNumericNode().unwrapped();
+        switch (_number()) {
+            case INT:
+                return (int) _numberLong;
+            case LONG:
+                return _numberLong;
+            case DOUBLE:
+                return _numberDouble;
+            default:
+                return _numberBigDecimal;
+        }
+    }
+
+    /**
+     * Same as {@link #getNumberValue()}, except that floating point numbers are returned as {@link BigDecimal}
+     * of the number as it was written, as the Double may have been rounded.
+     */
+    @Override
+    public Number getNumberValueExact() throws IOException {
+        if (_number() == NumberType.DOUBLE) {
+            return getDecimalValue();
+        }
+        return getNumberValue();
     }
 
     @Override
@@ -410,6 +686,60 @@ public class HoconTreeTraversingParser extends ParserMinimalBase {
         return n;
     }
 
+    /**
+     * @return The type of the current numeric node, unwrapping it only once per node.
+     */
+    protected NumberType _number() throws JsonParseException {
+        ConfigValue n = currentNumericNode();
+        if (n != _numberNode) {
+            _numberNode = n;
+            _numberText = null;
+            _numberBigDecimal = null;
+            Object value = n.unwrapped();
+            if (value instanceof Double) {
+                _numberDouble = (Double) value;
+                _numberType = NumberType.DOUBLE;
+                if (Double.isInfinite(_numberDouble)) {
+                    try {
+                        _numberBigDecimal = new BigDecimal(_numberText());
+                        _numberType = NumberType.BIG_DECIMAL;
+                    } catch (NumberFormatException e) {
+                        // "Infinity" created by the application, not parsed
+                    }
+                }
+            } else {
+                _numberLong = ((Number) value).longValue();
+                _numberDouble = _numberLong;
+                _numberType = (value instanceof Integer) ? NumberType.INT : NumberType.LONG;
+            }
+        }
+        return _numberType;
+    }
+
+    /**
+     * @return true if the text is an integer without fraction or exponent, so has the scale of a long.
+     */
+    protected static boolean _isPlainInteger(String text) {
+        for (int i = 0, len = text.length(); i < len; ++i) {
+            char c = text.charAt(i);
+            if ((c < '0' || c > '9') && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The text of the current numeric node as it was written, if known.
+     */
+    protected String _numberText() throws JsonParseException {
+        _number();
+        if (_numberText == null) {
+            _numberText = HoconNodes.numberText(_numberNode);
+        }
+        return _numberText;
+    }
+
     @Override
     protected void _handleEOF() throws JsonParseException {
         _throwInternal(); // should never get called
@@ -0,0 +1,188 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.IOContext;
+import java.io.IOException;
+
+/**
+ * Base of the streaming parsers that read HOCON from UTF-8 encoded bytes, which hold the whole document.<br>
+ * <br>
+ * The structure of the document is scanned on the bytes directly; only the keys and the values that are
+ * actually accessed are decoded to chars. The encoding is validated while scanning (see {@link #_nonAsciiLength(int)}),
+ * so invalid UTF-8 is reported as a {@link com.fasterxml.jackson.core.JsonParseException} once it is reached.<br>
+ * Sub-classes only provide access to the bytes, see {@link #_byte(int)}.
+ */
+public abstract class HoconUTF8ParserBase extends HoconStreamingParser {
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    protected HoconUTF8ParserBase(IOContext ctxt, int features, ObjectCodec codec, int start, int end) {
+        super(ctxt, features, codec);
+        _inputPtr = start;
+        _inputEnd = end;
+        _currInputRowStart = start;
+        // so that locations are relative to the start of the content
+        _currInputProcessed = -start;
+    }
+
+    @Override
+    protected void _closeInput() {
+        // Content was read completely before parsing, so there is nothing to close
+    }
+
+    /*
+    /**********************************************************
+    /* Public API, locations
+    /**********************************************************
+     */
+
+    @Override
+    protected JsonLocation _createTokenLocation() {
+        // Offsets are in bytes, same as for the UTF8StreamJsonParser
+        return new JsonLocation(_contentReference(), _tokenInputTotal, -1L, getTokenLineNr(), getTokenColumnNr());
+    }
+
+    @Override
+    protected JsonLocation _createCurrentLocation() {
+        int col = _inputPtr - _currInputRowStart + 1; // 1-based
+        return new JsonLocation(_contentReference(), _currInputProcessed + _inputPtr, -1L, _currInputRow, col);
+    }
+
+    /*
+    /**********************************************************
+    /* Input access
+    /**********************************************************
+     */
+
+    /**
+     * @return The (signed) byte at the position of the input.
+     */
+    protected abstract int _byte(int ptr);
+
+    @Override
+    protected int _unit(int ptr) {
+        return _byte(ptr) & 0xFF;
+    }
+
+    @Override
+    protected int _nonAsciiWhitespace(int ptr) throws IOException {
+        // All whitespace outside of ASCII is in the Basic Multilingual Plane, so encoded as 2 or 3 bytes.
+        int len = _nonAsciiLength(ptr);
+        int c = _byte(ptr);
+        if (len == 2) {
+            c = ((c & 0x1F) << 6) | (_byte(ptr + 1) & 0x3F);
+        } else if (len == 3) {
+            c = ((c & 0x0F) << 12) | ((_byte(ptr + 1) & 0x3F) << 6) | (_byte(ptr + 2) & 0x3F);
+        } else {
+            return 0;
+        }
+        return isHoconWhitespace(c) ? len : 0;
+    }
+
+    /**
+     * Validates the UTF-8 encoded char starting at the specified position, with the same rules as the
+     * {@link UTF8Reader} (which is used if the content is parsed into a Config tree instead).
+     *
+     * @return The number of bytes of the char.
+     */
+    @Override
+    protected int _nonAsciiLength(int ptr) throws IOException {
+        int c = _byte(ptr);
+        int len;
+        if ((c & 0xE0) == 0xC0) {
+            len = 2;
+        } else if ((c & 0xF0) == 0xE0) {
+            len = 3;
+        } else if ((c & 0xF8) == 0xF0) {
+            len = 4;
+        } else {
+            _reportInvalidUTF8("Invalid UTF-8 start byte 0x" + Integer.toHexString(c & 0xFF));
+            return 1;
+        }
+        int end = Math.min(ptr + len, _inputEnd);
+        for (int i = ptr + 1; i < end; ++i) {
+            int d = _byte(i);
+            if ((d & 0xC0) != 0x80) {
+                _reportInvalidUTF8("Invalid UTF-8 middle byte 0x" + Integer.toHexString(d & 0xFF));
+            }
+        }
+        if (end < ptr + len) {
+            // the rest of the char may still be fed
+            _verifyEndOfInput();
+            _reportInvalidUTF8("Unexpected end of a multi-byte char");
+        }
+        return len;
+    }
+
+    @Override
+    protected void _appendRaw(int start, int end) throws IOException {
+        char[] outBuf = _textBuffer.getCurrentSegment();
+        int outPtr = _textBuffer.getCurrentSegmentSize();
+        int ptr = start;
+        while (ptr < end) {
+            if (outPtr >= outBuf.length) {
+                outBuf = _textBuffer.finishCurrentSegment();
+                outPtr = 0;
+            }
+            // Quick loop for the common case of ASCII
+            int max = Math.min(end, ptr + (outBuf.length - outPtr));
+            int c = _byte(ptr);
+            while (c >= 0) {
+                outBuf[outPtr++] = (char) c;
+                if (++ptr >= max) {
+                    break;
+                }
+                c = _byte(ptr);
+            }
+            if (c >= 0) {
+                continue;
+            }
+            ++ptr;
+            int needed;
+            if ((c & 0xE0) == 0xC0) {
+                c &= 0x1F;
+                needed = 1;
+            } else if ((c & 0xF0) == 0xE0) {
+                c &= 0x0F;
+                needed = 2;
+            } else if ((c & 0xF8) == 0xF0) {
+                c &= 0x07;
+                needed = 3;
+            } else {
+                _reportInvalidUTF8("Invalid UTF-8 start byte 0x" + Integer.toHexString(c & 0xFF));
+                return;
+            }
+            if (end - ptr < needed) {
+                _reportInvalidUTF8("Unexpected end of a multi-byte char");
+            }
+            for (int i = 0; i < needed; ++i) {
+                int d = _byte(ptr++);
+                if ((d & 0xC0) != 0x80) {
+                    _reportInvalidUTF8("Invalid UTF-8 middle byte 0x" + Integer.toHexString(d & 0xFF));
+                }
+                c = (c << 6) | (d & 0x3F);
+            }
+            if (needed > 2) {
+                // Outside of the Basic Multilingual Plane, so needs a surrogate pair
+                c -= 0x10000;
+                outBuf[outPtr++] = (char) (0xD800 | (c >> 10));
+                if (outPtr >= outBuf.length) {
+                    outBuf = _textBuffer.finishCurrentSegment();
+                    outPtr = 0;
+                }
+                c = 0xDC00 | (c & 0x03FF);
+            }
+            outBuf[outPtr++] = (char) c;
+        }
+        _textBuffer.setCurrentLength(outPtr);
+    }
+
+    protected void _reportInvalidUTF8(String msg) throws IOException {
+        _reportError(msg + " in a UTF-8 encoded HOCON document");
+    }
+}
@@ -0,0 +1,35 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.IOContext;
+
+/**
+ * Streaming parser that reads HOCON from a UTF-8 encoded byte buffer, which holds the whole document.
+ * Used for byte[] and InputStream based input.<br>
+ */
+public class HoconUTF8StreamParser extends HoconUTF8ParserBase {
+
+    protected byte[] _inputBuffer;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    public HoconUTF8StreamParser(IOContext ctxt, int features, ObjectCodec codec, byte[] inputBuffer, int start, int end) {
+        super(ctxt, features, codec, start, end);
+        _inputBuffer = inputBuffer;
+    }
+
+    /*
+    /**********************************************************
+    /* Input access
+    /**********************************************************
+     */
+
+    @Override
+    protected int _byte(int ptr) {
+        return _inputBuffer[ptr];
+    }
+}
@@ -0,0 +1,396 @@
+package com.wolfyscript.jackson.dataformat.hocon;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigOrigin;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigParseable;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Holds the value bound from a HOCON file, and binds it again whenever the file or any of its (transitive)
+ * includes change.<br>
+ * <br>
+ * The directories of all these files are watched with a {@link WatchService}; once an event reports a change, the
+ * modification times and sizes of the files are compared, so the file is only parsed again if one of them actually
+ * changed. The new value is bound completely before it replaces the current one, so {@link #get()} never blocks
+ * and never returns a partially bound value. If the file can not be parsed or bound, the current value is kept
+ * and the error is available from {@link #getLastError()}.<br>
+ * <br>
+ * Only files of the default file system can be watched. The file is always parsed into a Config tree, using the
+ * includer of the {@link HoconFactory} of the mapper, but not its {@link HoconConfigCache}.
+ *
+ * @param <T> The type of the bound value.
+ */
+public class ReloadableHoconConfig<T> implements Closeable {
+
+    protected final HoconMapper _mapper;
+    protected final Path _path;
+    protected final JavaType _valueType;
+
+    protected final WatchService _watchService;
+    protected final Thread _watcher;
+
+    /**
+     * The watched directories; only accessed while holding the lock of this holder.
+     */
+    protected final Map<Path, WatchKey> _watchKeys = new HashMap<>();
+
+    /**
+     * Modification times and sizes of the files of the current value; only accessed while holding the lock of this holder.
+     */
+    protected Map<Path, long[]> _stamps = Collections.emptyMap();
+
+    protected volatile T _value;
+    protected volatile Exception _lastError;
+    protected volatile long _reloadCount;
+
+    public ReloadableHoconConfig(HoconMapper mapper, Path path, Class<T> valueType) throws IOException {
+        this(mapper, path, mapper.constructType(valueType));
+    }
+
+    /**
+     * Binds the file and starts watching it.
+     *
+     * @throws IOException If the file can not be parsed or bound initially.
+     */
+    public ReloadableHoconConfig(HoconMapper mapper, Path path, JavaType valueType) throws IOException {
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            throw new IllegalArgumentException("Only files of the default file system can be watched: " + path);
+        }
+        _mapper = mapper;
+        _path = path.toAbsolutePath().normalize();
+        _valueType = valueType;
+        _watchService = path.getFileSystem().newWatchService();
+        try {
+            synchronized (this) {
+                _value = _load();
+            }
+        } catch (IOException | RuntimeException e) {
+            _watchService.close();
+            throw e;
+        }
+        _watcher = new Thread(this::_watch, "ReloadableHoconConfig " + _path.getFileName());
+        _watcher.setDaemon(true);
+        _watcher.start();
+    }
+
+    /**
+     * @return The current value; never blocks.
+     */
+    public T get() {
+        return _value;
+    }
+
+    public Path getPath() {
+        return _path;
+    }
+
+    /**
+     * @return The error of the last reload, or null if it succeeded.
+     */
+    public Exception getLastError() {
+        return _lastError;
+    }
+
+    /**
+     * @return The number of times the value was replaced since it was first bound.
+     */
+    public long getReloadCount() {
+        return _reloadCount;
+    }
+
+    /**
+     * Parses and binds the file again if it or any of its includes changed since the current value was bound.
+     *
+     * @return true if the value was replaced.
+     */
+    public synchronized boolean reload() {
+        if (!_isChanged()) {
+            return false;
+        }
+        try {
+            T value = _load();
+            _lastError = null;
+            ++_reloadCount;
+            // published last, so that the state above is visible to anyone who sees the new value
+            _value = value;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            _lastError = e;
+            return false;
+        }
+    }
+
+    /**
+     * Stops watching the file; the current value stays available.
+     */
+    @Override
+    public void close() throws IOException {
+        _watchService.close();
+        _watcher.interrupt();
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    /**
+     * Parses and binds the file, then replaces the watched files.
+     *
+     * @return The new value.
+     */
+    @SuppressWarnings("unchecked")
+    protected T _load() throws IOException {
+        RecordingIncluder includer = new RecordingIncluder(_mapper.getFactory().getConfigIncluder());
+        // Every file is stamped when it is recorded, before it is read, so that changes while parsing cause another reload
+        includer._add(_path);
+        includer.including.add(_path);
+        ConfigObject root = ConfigFactory.parseFile(_path.toFile(), ConfigParseOptions.defaults().setIncluder(includer)).resolve().root();
+        T value;
+        try (JsonParser p = new HoconTreeTraversingParser(root, _mapper, _mapper.getFactory().getFormatParserFeatures())) {
+            value = (T) _mapper.readValue(p, _valueType);
+        }
+        _stamps = includer.stamps;
+        _updateWatchKeys();
+        return value;
+    }
+
+    protected boolean _isChanged() {
+        for (Map.Entry<Path, long[]> entry : _stamps.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), _stamp(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static long[] _stamp(Path file) {
+        File f = file.toFile();
+        return new long[] { f.lastModified(), f.length() };
+    }
+
+    /**
+     * Watches the directories of the current files, and stops watching those that are no longer needed.
+     */
+    protected void _updateWatchKeys() throws IOException {
+        Set<Path> dirs = new LinkedHashSet<>();
+        for (Path file : _stamps.keySet()) {
+            Path dir = file.getParent();
+            if (dir != null && dir.toFile().isDirectory()) {
+                dirs.add(dir);
+            }
+        }
+        for (Iterator<Map.Entry<Path, WatchKey>> it = _watchKeys.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Path, WatchKey> entry = it.next();
+            if (!dirs.contains(entry.getKey())) {
+                entry.getValue().cancel();
+                it.remove();
+            }
+        }
+        for (Path dir : dirs) {
+            if (!_watchKeys.containsKey(dir)) {
+                try {
+                    _watchKeys.put(dir, dir.register(_watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+                } catch (ClosedWatchServiceException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for changes of the watched directories, until the holder is closed.
+     */
+    protected void _watch() {
+        try {
+            while (true) {
+                WatchKey key = _watchService.take();
+                boolean relevant = false;
+                synchronized (this) {
+                    Path dir = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        Object context = event.context();
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || (context instanceof Path && _stamps.containsKey(dir.resolve((Path) context)))) {
+                            relevant = true;
+                        }
+                    }
+                    key.reset();
+                }
+                if (relevant) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Includer that records the local files that the includes are (or would be) read from,
+     * including files of includes that are missing.
+     */
+    protected static class RecordingIncluder extends HoconIncluderBase {
+
+        /**
+         * The recorded files, with their modification times and sizes from when they were recorded, which is before
+         * they are read. Shared by all includers created through {@link #withFallback(ConfigIncluder)}.
+         */
+        final Map<Path, long[]> stamps;
+
+        /**
+         * The files that are currently being included, starting with the document; null for includes that are
+         * not read from a single file. Shared the same way.
+         */
+        final List<Path> including;
+
+        RecordingIncluder(ConfigIncluder fallback) {
+            this(new LinkedHashMap<>(), new ArrayList<>(), fallback);
+        }
+
+        private RecordingIncluder(Map<Path, long[]> stamps, List<Path> including, ConfigIncluder fallback) {
+            super(fallback);
+            this.stamps = stamps;
+            this.including = including;
+        }
+
+        @Override
+        protected HoconIncluderBase _withFallback(ConfigIncluder fallback) {
+            return new RecordingIncluder(stamps, including, fallback);
+        }
+
+        @Override
+        public ConfigObject include(ConfigIncludeContext context, String what) {
+            // otherwise relative to the including file
+            URL url = _toURL(what);
+            Path included = null;
+            if (url != null) {
+                included = _addURL(url);
+            } else {
+                for (String name : _candidates(what)) {
+                    ConfigParseable p = context.relativeTo(name);
+                    Path file = (p == null) ? null : _addOrigin(p.origin(), context);
+                    if (file == null) {
+                        // Missing next to the including file, so also watched there in case it is created
+                        Path dir = _includingDir();
+                        if (dir != null && !new File(name).isAbsolute()) {
+                            _add(dir.resolve(name));
+                        }
+                    } else if (included == null && Files.isRegularFile(file)) {
+                        included = file;
+                    }
+                }
+            }
+            return _include(included, () -> _fallbackInclude(context, what));
+        }
+
+        @Override
+        public ConfigObject includeFile(ConfigIncludeContext context, File what) {
+            Path included = null;
+            for (String name : _candidates(what.getPath())) {
+                Path file = _add(new File(name).toPath());
+                if (included == null && Files.isRegularFile(file)) {
+                    included = file;
+                }
+            }
+            return _include(included, () -> _fallbackIncludeFile(context, what));
+        }
+
+        @Override
+        public ConfigObject includeURL(ConfigIncludeContext context, URL what) {
+            return _include(_addURL(what), () -> _fallbackIncludeURL(context, what));
+        }
+
+        @Override
+        public ConfigObject includeResources(ConfigIncludeContext context, String what) {
+            for (String name : _candidates(what)) {
+                _addResources(name, context.parseOptions().getClassLoader());
+            }
+            return _include(null, () -> _fallbackIncludeResources(context, what));
+        }
+
+        ConfigObject _include(Path included, Supplier<ConfigObject> loader) {
+            including.add(included);
+            try {
+                return loader.get();
+            } finally {
+                including.remove(including.size() - 1);
+            }
+        }
+
+        Path _includingDir() {
+            Path file = including.isEmpty() ? null : including.get(including.size() - 1);
+            return (file == null) ? null : file.getParent();
+        }
+
+        Path _add(Path file) {
+            file = file.toAbsolutePath().normalize();
+            stamps.computeIfAbsent(file, ReloadableHoconConfig::_stamp);
+            return file;
+        }
+
+        /**
+         * @return The file of the origin, or null if it is not read from a single local file.
+         */
+        Path _addOrigin(ConfigOrigin origin, ConfigIncludeContext context) {
+            if (origin.filename() != null) {
+                return _add(new File(origin.filename()).toPath());
+            }
+            if (origin.url() != null) {
+                return _addURL(origin.url());
+            }
+            if (origin.resource() != null) {
+                _addResources(origin.resource(), context.parseOptions().getClassLoader());
+            }
+            return null;
+        }
+
+        /**
+         * @return The local file of the URL, or null if there is none.
+         */
+        Path _addURL(URL url) {
+            File f = _localFile(url);
+            // null if it can not be watched
+            return (f == null) ? null : _add(f.toPath());
+        }
+
+        void _addResources(String name, ClassLoader loader) {
+            List<File> local = new ArrayList<>();
+            // resources that are not local files can not be watched
+            _addLocalResources(name, loader, local);
+            for (File f : local) {
+                _add(f.toPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.wolfyscript.jackson.dataformat.hocon.deserialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.JDKValueInstantiators;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import com.fasterxml.jackson.databind.module.SimpleValueInstantiators;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+
+/**
+ * Wraps the default instantiators of the JDK collections and maps, so they are created in the size of the
+ * array or object that is read, when the parser knows it (see {@link HoconTreeTraversingParser#getContainerSize()}).
+ * Saves growing the collections element by element.<br>
+ * Instantiators that are not the defaults of Jackson are kept as they are.
+ */
+public class HoconValueInstantiators extends SimpleValueInstantiators {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public ValueInstantiator findValueInstantiator(DeserializationConfig config, BeanDescription beanDesc, ValueInstantiator defaultInstantiator) {
+        ValueInstantiator instantiator = super.findValueInstantiator(config, beanDesc, defaultInstantiator);
+        if (instantiator != defaultInstantiator || !_isDefault(instantiator) || !instantiator.canCreateUsingDefault()) {
+            return instantiator;
+        }
+        Class<?> type = beanDesc.getBeanClass();
+        if (type == ArrayList.class || type == HashMap.class || type == LinkedHashMap.class
+                || type == HashSet.class || type == LinkedHashSet.class) {
+            return new SizedInstantiator(instantiator, type);
+        }
+        return instantiator;
+    }
+
+    protected boolean _isDefault(ValueInstantiator instantiator) {
+        return instantiator.getClass().getEnclosingClass() == JDKValueInstantiators.class
+                || instantiator.getClass() == StdValueInstantiator.class;
+    }
+
+    /**
+     * Creates the collection or map with the capacity for the current array or object, if known.
+     */
+    public static class SizedInstantiator extends ValueInstantiator.Delegating {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final Class<?> _type;
+
+        public SizedInstantiator(ValueInstantiator delegate, Class<?> type) {
+            super(delegate);
+            _type = type;
+        }
+
+        @Override
+        public ValueInstantiator createContextual(DeserializationContext ctxt, BeanDescription beanDesc) throws JsonMappingException {
+            ValueInstantiator delegate = _delegate.createContextual(ctxt, beanDesc);
+            return (delegate == _delegate) ? this : new SizedInstantiator(delegate, _type);
+        }
+
+        @Override
+        public Object createUsingDefault(DeserializationContext ctxt) throws IOException {
+            int size = HoconTreeTraversingParser.containerSize(ctxt.getParser());
+            if (size < 0) {
+                return super.createUsingDefault(ctxt);
+            }
+            if (_type == ArrayList.class) {
+                return new ArrayList<>(size);
+            }
+            // the capacity the maps would grow to, with the default load factor
+            int capacity = (size < 3) ? size + 1 : (int) (size / 0.75f) + 1;
+            if (_type == HashMap.class) {
+                return new HashMap<>(capacity);
+            }
+            if (_type == LinkedHashMap.class) {
+                return new LinkedHashMap<>(capacity);
+            }
+            if (_type == HashSet.class) {
+                return new HashSet<>(capacity);
+            }
+            return new LinkedHashSet<>(capacity);
+        }
+    }
+}
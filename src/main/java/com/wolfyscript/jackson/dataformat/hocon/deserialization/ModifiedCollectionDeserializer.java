@@ -7,9 +7,12 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.NullValueProvider;
 import com.fasterxml.jackson.databind.deser.std.CollectionDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.wolfyscript.jackson.dataformat.hocon.HoconIndexedObjectParser;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.TreeMap;
 
 public class ModifiedCollectionDeserializer extends CollectionDeserializer {
@@ -53,8 +56,20 @@ public class ModifiedCollectionDeserializer extends CollectionDeserializer {
     }
 
 
+    /**
+     * Reads a numerically indexed object; the values (in the order of their indexes) replace the values at the start
+     * of the result and the rest of the result is kept.<br>
+     * Lists are updated in place, setting the existing elements and appending the values past their end.
+     * Other collections are copied into a new collection.
+     */
+    @SuppressWarnings("unchecked")
     protected Collection<Object> deserializeFromMap(JsonParser p, DeserializationContext ctxt, Collection<Object> result) throws IOException {
-        TreeMap<Integer, Object> sortedElements = new TreeMap<>();
+        // When the parser orders the entries, the values are added straight to the collection; otherwise they are sorted first.
+        boolean ordered = HoconIndexedObjectParser.tryOrderIndexedEntries(p);
+        ListIterator<Object> target = (result instanceof List) ? ((List<Object>) result).listIterator() : null;
+        Collection<Object> objects = (target == null) ? createDefaultInstance(ctxt) : null;
+        TreeMap<Integer, Object> sortedElements = ordered ? null : new TreeMap<>();
+        int count = 0;
 
         // Note: assumption is that Object Id handling can't really work with merging
         // and thereby we can (and should) just drop that part
@@ -75,14 +90,8 @@ public class ModifiedCollectionDeserializer extends CollectionDeserializer {
 
         for (; key != null; key = p.nextFieldName()) {
             JsonToken t = p.nextToken();
-            int index;
-            try {
-                index = Integer.parseInt(key);
-                if (index < 0) {
-                    p.skipChildren();
-                    continue;
-                }
-            } catch (NumberFormatException exception) {
+            int index = HoconIndexedObjectParser.parseIndex(key);
+            if (index < 0) {
                 // Keys that are not positive integers can be skipped.
                 p.skipChildren();
                 continue;
@@ -93,10 +102,17 @@ public class ModifiedCollectionDeserializer extends CollectionDeserializer {
                     if (_skipNullValues) {
                         continue;
                     }
-                    sortedElements.put(index, _nullProvider.getNullValue(ctxt));
+                    Object value = _nullProvider.getNullValue(ctxt);
+                    if (ordered) {
+                        _addInOrder(target, objects, value);
+                        count++;
+                    } else {
+                        sortedElements.put(index, value);
+                    }
                     continue;
                 }
-                Object old = sortedElements.get(index);
+                // Ordered entries have unique indexes, so there is never an old value.
+                Object old = ordered ? null : sortedElements.get(index);
                 // This makes it possible to override values with the same index.
                 // It does not take the values from `result` into account as we cannot determine the actual index of the value yet!
                 Object value;
@@ -111,7 +127,10 @@ public class ModifiedCollectionDeserializer extends CollectionDeserializer {
                 } else {
                     value = _valueDeserializer.deserializeWithType(p, ctxt, _valueTypeDeserializer);
                 }
-                if (value != old) {
+                if (ordered) {
+                    _addInOrder(target, objects, value);
+                    count++;
+                } else if (value != old) {
                     sortedElements.put(index, value);
                 }
             } catch (Exception e) {
@@ -119,17 +138,38 @@ public class ModifiedCollectionDeserializer extends CollectionDeserializer {
             }
         }
 
+        if (!ordered) {
+            for (Object value : sortedElements.values()) {
+                _addInOrder(target, objects, value);
+            }
+            count = sortedElements.size();
+        }
+        if (target != null) {
+            return result;
+        }
         Iterator<Object> iterator = result.iterator();
         int i = 0;
-        while (iterator.hasNext() && i < sortedElements.size()) {
+        while (iterator.hasNext() && i < count) {
             iterator.next();
             iterator.remove();
             i++;
         }
-        Collection<Object> objects = createDefaultInstance(ctxt);
-        objects.addAll(sortedElements.values());
         objects.addAll(result);
         return objects;
     }
 
+    /**
+     * Sets the next element of the list, or appends the value once past its end; without a list, the value is added to the new collection.
+     */
+    protected void _addInOrder(ListIterator<Object> target, Collection<Object> objects, Object value) {
+        if (target == null) {
+            objects.add(value);
+        } else if (target.hasNext()) {
+            target.next();
+            target.set(value);
+        } else {
+            target.add(value);
+        }
+    }
+
 }
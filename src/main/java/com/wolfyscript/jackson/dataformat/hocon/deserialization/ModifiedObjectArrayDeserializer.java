@@ -8,6 +8,8 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.NullValueProvider;
 import com.fasterxml.jackson.databind.deser.std.ObjectArrayDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.ObjectBuffer;
+import com.wolfyscript.jackson.dataformat.hocon.HoconIndexedObjectParser;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.Objects;
@@ -42,7 +44,12 @@ public class ModifiedObjectArrayDeserializer extends ObjectArrayDeserializer {
     }
 
     protected Object[] deserializeFromMap(JsonParser p, DeserializationContext ctxt, Object[] intoValue) throws IOException {
-        TreeMap<Integer, Object> sortedElements = new TreeMap<>();
+        // When the parser orders the entries, the values are appended to the array buffer; otherwise they are sorted first.
+        boolean ordered = HoconIndexedObjectParser.tryOrderIndexedEntries(p);
+        TreeMap<Integer, Object> sortedElements = ordered ? null : new TreeMap<>();
+        ObjectBuffer buffer = ordered ? ctxt.leaseObjectBuffer() : null;
+        Object[] chunk = ordered ? buffer.resetAndStart(intoValue, intoValue.length) : null;
+        int ix = intoValue.length;
         String key;
         if (p.isExpectedStartObjectToken()) {
             key = p.nextFieldName();
@@ -59,49 +66,59 @@ public class ModifiedObjectArrayDeserializer extends ObjectArrayDeserializer {
 
         for (; key != null; key = p.nextFieldName()) {
             JsonToken t = p.nextToken();
-            int index;
-            try {
-                index = Integer.parseInt(key);
-                if (index < 0) {
-                    continue;
-                }
-            } catch (NumberFormatException exception) {
+            int index = HoconIndexedObjectParser.parseIndex(key);
+            if (index < 0) {
                 // Keys that are not positive integers can be skipped.
+                p.skipChildren();
                 continue;
             }
             try {
+                Object value;
                 // Note: must handle null explicitly here, can't merge etc
                 if (t == JsonToken.VALUE_NULL) {
                     if (_skipNullValues) {
                         continue;
                     }
-                    sortedElements.put(index, _nullProvider.getNullValue(ctxt));
-                    continue;
-                }
-
-                Object old = sortedElements.get(index);
-                // This makes it possible to override values with the same index.
-                // It does not take the values from `result` into account as we cannot determine the actual index of the value yet!
-                Object value;
-                if (old != null) {
-                    if (_elementTypeDeserializer == null) {
-                        value = _elementDeserializer.deserialize(p, ctxt, old);
+                    value = _nullProvider.getNullValue(ctxt);
+                } else {
+                    // Ordered entries have unique indexes, so there is never an old value.
+                    Object old = ordered ? null : sortedElements.get(index);
+                    // This makes it possible to override values with the same index.
+                    // It does not take the values from `result` into account as we cannot determine the actual index of the value yet!
+                    if (old != null) {
+                        if (_elementTypeDeserializer == null) {
+                            value = _elementDeserializer.deserialize(p, ctxt, old);
+                        } else {
+                            value = _elementDeserializer.deserializeWithType(p, ctxt, _elementTypeDeserializer, old);
+                        }
+                    } else if (_elementTypeDeserializer == null) {
+                        value = _elementDeserializer.deserialize(p, ctxt);
                     } else {
-                        value = _elementDeserializer.deserializeWithType(p, ctxt, _elementTypeDeserializer, old);
+                        value = _elementDeserializer.deserializeWithType(p, ctxt, _elementTypeDeserializer);
+                    }
+                    if (value == old) {
+                        continue;
                     }
-                } else if (_elementTypeDeserializer == null) {
-                    value = _elementDeserializer.deserialize(p, ctxt);
-                } else {
-                    value = _elementDeserializer.deserializeWithType(p, ctxt, _elementTypeDeserializer);
                 }
-                if (value != old) {
+                if (!ordered) {
                     sortedElements.put(index, value);
+                    continue;
+                }
+                if (ix >= chunk.length) {
+                    chunk = buffer.appendCompletedChunk(chunk);
+                    ix = 0;
                 }
+                chunk[ix++] = value;
             } catch (Exception e) {
                 wrapAndThrow(ctxt, e, intoValue, key);
             }
         }
 
+        if (ordered) {
+            Object[] result = buffer.completeAndClearBuffer(chunk, ix, _elementClass);
+            ctxt.returnObjectBuffer(buffer);
+            return result;
+        }
         int offset = intoValue.length;
         Object[] result = (Object[]) Array.newInstance(_elementClass, offset + sortedElements.size());
         System.arraycopy(intoValue, 0, result, 0, intoValue.length);
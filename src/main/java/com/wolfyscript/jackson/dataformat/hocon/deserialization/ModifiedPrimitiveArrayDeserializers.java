@@ -23,11 +23,16 @@ import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.LogicalType;
 import com.fasterxml.jackson.databind.util.AccessPattern;
 import com.fasterxml.jackson.databind.util.ArrayBuilders;
+import com.fasterxml.jackson.databind.util.PrimitiveArrayBuilder;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueType;
+import com.wolfyscript.jackson.dataformat.hocon.HoconIndexedObjectParser;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.TreeMap;
 
 /**
  * Container for deserializers used for instantiating "primitive arrays",
@@ -192,6 +197,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
     @Override
     public T deserialize(JsonParser p, DeserializationContext ctxt, T existing) throws IOException {
+        boolean indexed = p.isExpectedStartObjectToken();
         T newValue = deserialize(p, ctxt);
         if (existing == null) {
             return newValue;
@@ -200,9 +206,31 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
         if (len == 0) {
             return newValue;
         }
+        if (indexed) {
+            return _mergeIndexed(existing, len, newValue);
+        }
         return _concat(existing, newValue);
     }
 
+    /**
+     * Merges the values of a numerically indexed object into the existing array, the same way the
+     * {@link ModifiedCollectionDeserializer} merges them into lists: the values (in the order of their indexes)
+     * replace the values at the start of the array and the rest of the array is kept.<br>
+     * The existing array is copied before, as it may be shared, like a default value of a field; unless the new
+     * values are at least as many, then they replace it.
+     */
+    @SuppressWarnings("unchecked")
+    protected T _mergeIndexed(T existing, int len, T newValue) {
+        int newLen = Array.getLength(newValue);
+        if (newLen >= len) {
+            return newValue;
+        }
+        T result = (T) Array.newInstance(existing.getClass().getComponentType(), len);
+        System.arraycopy(existing, newLen, result, newLen, len - newLen);
+        System.arraycopy(newValue, 0, result, 0, newLen);
+        return result;
+    }
+
     /*
     /********************************************************
     /* Helper methods for sub-classes
@@ -212,6 +240,8 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
     @SuppressWarnings("unchecked")
     protected T handleNonArray(JsonParser p, DeserializationContext ctxt) throws IOException {
         if (p.isExpectedStartObjectToken()) {
+            // Ordered entries take the dense path of the IndexCollector, without reordering the values.
+            HoconIndexedObjectParser.tryOrderIndexedEntries(p);
             String key;
             if (p.isExpectedStartObjectToken()) {
                 key = p.nextFieldName();
@@ -246,26 +276,160 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
     protected int _indexForEntry(JsonParser p, String key) throws IOException {
         if (key == null) return -2;
-        JsonToken t = p.nextToken();
-        int index;
-        try {
-            index = Integer.parseInt(key);
-            if (index < 0) {
-                p.skipChildren();
-                return -1;
-            }
-        } catch (NumberFormatException exception) {
+        p.nextToken();
+        int index = HoconIndexedObjectParser.parseIndex(key);
+        if (index < 0) {
             // Keys that are not positive integers can be skipped.
             p.skipChildren();
-            return -1;
         }
         return index;
     }
 
+    /**
+     * Reads the array at once, instead of token by token, if the parser is a {@link HoconTreeTraversingParser}
+     * on its {@code START_ARRAY} token (see {@link HoconTreeTraversingParser#getCurrentList()}) and all elements
+     * can be converted directly; the parser is then moved to the {@code END_ARRAY} token.
+     *
+     * @return The values, or null if the array is read token by token.
+     */
+    protected T _readBulk(JsonParser p) throws IOException {
+        ConfigList list = HoconTreeTraversingParser.currentList(p);
+        if (list == null) {
+            return null;
+        }
+        T values = _readList(list);
+        if (values != null) {
+            p.skipChildren();
+        }
+        return values;
+    }
+
+    /**
+     * @return The values of the list, the same as reading them token by token would return; or null if an element
+     * needs the conversions or null handling of the deserializer, like strings or numbers of another kind.
+     */
+    protected T _readList(ConfigList list) {
+        return null;
+    }
+
+    /**
+     * @return The number of a numeric value, or null if the value is no number.
+     */
+    protected static Number _numberOf(ConfigValue value) {
+        return (value.valueType() == ConfigValueType.NUMBER) ? (Number) value.unwrapped() : null;
+    }
+
+    /**
+     * Starts collecting the values of an array or object: with a chunk of the size of it, if the parser knows
+     * the size (see {@link HoconTreeTraversingParser#getContainerSize()}), so the chunk never needs to grow;
+     * otherwise with the chunk of the builder.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <A> A _startChunk(PrimitiveArrayBuilder<A> builder, int size) {
+        A chunk = builder.resetAndStart();
+        return (size < 0) ? chunk : (A) Array.newInstance(chunk.getClass().getComponentType(), size);
+    }
+
+    /**
+     * Completes the values of a chunk from {@link #_startChunk(PrimitiveArrayBuilder, int)}; a chunk of the size
+     * that is filled completely is the result itself.
+     */
+    protected static <A> A _completeChunk(PrimitiveArrayBuilder<A> builder, A chunk, int ix, int size) {
+        if (ix == size && builder.bufferedSize() == 0) {
+            return chunk;
+        }
+        return builder.completeAndClearBuffer(chunk, ix);
+    }
+
+    /**
+     * HOCON converts booleans to their text where another type is expected; within numerically indexed objects a
+     * boolean is therefore reported like any other text that is no valid number, independent of the order in which
+     * the parser delivers the entries.
+     *
+     * @return The value of a {@link com.fasterxml.jackson.databind.deser.DeserializationProblemHandler}, if one
+     * handles the text.
+     */
+    protected Number _booleanAsText(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        return (Number) ctxt.handleWeirdStringValue(type, p.getText(), "not a valid `%s` value", type.getName());
+    }
+
     protected void _failOnNull(DeserializationContext ctxt) throws IOException {
         throw InvalidNullException.from(ctxt, null, ctxt.constructType(_valueClass));
     }
 
+    /**
+     * Collects the indexes of the entries of a numerically indexed object, in the order they are read.<br>
+     * The values are collected next to it, in primitive arrays in the same order; so they only need to be
+     * reordered if the indexes were not in ascending order, instead of being boxed and sorted in a map.
+     */
+    protected static final class IndexCollector {
+
+        private int[] _indexes = new int[16];
+        private int _size;
+        private boolean _ordered = true;
+
+        public void add(int index) {
+            if (_size > 0 && index <= _indexes[_size - 1]) {
+                _ordered = false;
+            }
+            if (_size == _indexes.length) {
+                _indexes = Arrays.copyOf(_indexes, _size + (_size >> 1));
+            }
+            _indexes[_size++] = index;
+        }
+
+        /**
+         * @return true if the indexes were strictly ascending, so the values are in order and unique.
+         */
+        public boolean isOrdered() {
+            return _ordered;
+        }
+
+        /**
+         * @return The positions of the values in the order of their indexes; for duplicate indexes only
+         * the position of the last value, which replaces the others.
+         */
+        public int[] order() {
+            long[] keyed = new long[_size];
+            for (int i = 0; i < _size; ++i) {
+                // indexes are never negative, so sorting by the packed value sorts by index, then position
+                keyed[i] = ((long) _indexes[i] << 32) | i;
+            }
+            Arrays.sort(keyed);
+            int[] order = new int[_size];
+            int count = 0;
+            for (int i = 0; i < _size; ++i) {
+                if (i + 1 < _size && (keyed[i + 1] >>> 32) == (keyed[i] >>> 32)) {
+                    continue;
+                }
+                order[count++] = (int) keyed[i];
+            }
+            return (count == _size) ? order : Arrays.copyOf(order, count);
+        }
+
+        /**
+         * @param values The primitive array of the values, in the order they were read.
+         * @return The values in the order of their indexes: the array itself if the indexes were ascending,
+         * otherwise a new array without the values that were replaced by a duplicate index.
+         */
+        @SuppressWarnings("unchecked")
+        public <A> A reorder(A values) {
+            if (_ordered) {
+                return values;
+            }
+            int[] order = order();
+            A sorted = (A) Array.newInstance(values.getClass().getComponentType(), order.length);
+            for (int i = 0; i < order.length; ) {
+                // copies runs of consecutive positions at once
+                int start = i;
+                while (++i < order.length && order[i] == order[i - 1] + 1) {
+                }
+                System.arraycopy(values, order[start], sorted, start, i - start);
+            }
+            return sorted;
+        }
+    }
+
     /*
     /********************************************************
     /* Actual deserializers: efficient String[], char[] deserializers
@@ -370,7 +534,8 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
         @Override
         protected char[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
             // Let's actually build as a String, then get chars
-            TreeMap<Integer, Character> sortedMap = new TreeMap<>();
+            StringBuilder sb = new StringBuilder(64);
+            IndexCollector indexes = new IndexCollector();
             for (int index = _indexForEntry(p, startKey); index != -2; index = _nextEntry(p)) {
                 if (index == -1) continue;
                 JsonToken t = p.currentToken();
@@ -391,13 +556,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                 if (str.length() != 1) {
                     ctxt.reportInputMismatch(this, "Cannot convert a JSON String of length %d into a char element of char array", str.length());
                 }
-                sortedMap.put(index, str.charAt(0));
+                sb.append(str.charAt(0));
+                indexes.add(index);
             }
-            StringBuilder sb = new StringBuilder(64);
-            for (Character value : sortedMap.values()) {
-                sb.append(value);
-            }
-            return sb.toString().toCharArray();
+            return indexes.reorder(sb.toString().toCharArray());
         }
 
         @Override
@@ -438,13 +600,31 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new boolean[0];
         }
 
+        @Override
+        protected boolean[] _readList(ConfigList list) {
+            boolean[] values = new boolean[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                ConfigValue value = list.get(i);
+                if (value.valueType() != ConfigValueType.BOOLEAN) {
+                    return null;
+                }
+                values[i] = (Boolean) value.unwrapped();
+            }
+            return values;
+        }
+
         @Override
         public boolean[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            boolean[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.BooleanBuilder builder = ctxt.getArrayBuilders().getBooleanBuilder();
-            boolean[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            boolean[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -474,7 +654,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -484,9 +664,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected boolean[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Boolean> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.BooleanBuilder builder = ctxt.getArrayBuilders().getBooleanBuilder();
-            boolean[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            boolean[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -509,20 +690,17 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                     } else {
                         value = _parseBooleanPrimitive(p, ctxt);
                     }
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Boolean value : sortedMap.values()) {
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
@@ -561,6 +739,20 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new byte[0];
         }
 
+        @Override
+        protected byte[] _readList(ConfigList list) {
+            byte[] values = new byte[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                Number number = _numberOf(list.get(i));
+                // the same range as JsonParser#getByteValue(), which accepts unsigned bytes too
+                if (!(number instanceof Integer) || number.intValue() < Byte.MIN_VALUE || number.intValue() > 255) {
+                    return null;
+                }
+                values[i] = number.byteValue();
+            }
+            return values;
+        }
+
         @Override // since 2.12
         public LogicalType logicalType() {
             // 30-May-2020, tatu: while technically an array, logically contains
@@ -598,8 +790,13 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            byte[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.ByteBuilder builder = ctxt.getArrayBuilders().getByteBuilder();
-            byte[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            byte[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -630,7 +827,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -657,9 +854,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected byte[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Byte> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.ByteBuilder builder = ctxt.getArrayBuilders().getByteBuilder();
-            byte[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            byte[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -680,23 +878,20 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                             _verifyNullForPrimitive(ctxt);
                             value = (byte) 0;
                         } else {
-                            value = _parseBytePrimitive(p, ctxt);
+                            value = t.isBoolean() ? _booleanAsText(p, ctxt, Byte.TYPE).byteValue() : _parseBytePrimitive(p, ctxt);
                         }
                     }
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Byte value : sortedMap.values()) {
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
@@ -731,13 +926,31 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new short[0];
         }
 
+        @Override
+        protected short[] _readList(ConfigList list) {
+            short[] values = new short[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                Number number = _numberOf(list.get(i));
+                if (!(number instanceof Integer) || number.intValue() < Short.MIN_VALUE || number.intValue() > Short.MAX_VALUE) {
+                    return null;
+                }
+                values[i] = number.shortValue();
+            }
+            return values;
+        }
+
         @Override
         public short[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            short[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.ShortBuilder builder = ctxt.getArrayBuilders().getShortBuilder();
-            short[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            short[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -763,7 +976,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -773,9 +986,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected short[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Short> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.ShortBuilder builder = ctxt.getArrayBuilders().getShortBuilder();
-            short[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            short[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -792,22 +1006,19 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                         _verifyNullForPrimitive(ctxt);
                         value = (short) 0;
                     } else {
-                        value = _parseShortPrimitive(p, ctxt);
+                        value = t.isBoolean() ? _booleanAsText(p, ctxt, Short.TYPE).shortValue() : _parseShortPrimitive(p, ctxt);
                     }
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Short value : sortedMap.values()) {
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
@@ -844,13 +1055,34 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new int[0];
         }
 
+        @Override
+        protected int[] _readList(ConfigList list) {
+            int[] values = new int[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                Number number = _numberOf(list.get(i));
+                if (number instanceof Integer) {
+                    values[i] = number.intValue();
+                } else if (number instanceof Long && (int) number.longValue() == number.longValue()) {
+                    values[i] = (int) number.longValue();
+                } else {
+                    return null;
+                }
+            }
+            return values;
+        }
+
         @Override
         public int[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            int[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.IntBuilder builder = ctxt.getArrayBuilders().getIntBuilder();
-            int[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            int[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -878,7 +1110,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -888,9 +1120,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected int[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Integer> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.IntBuilder builder = ctxt.getArrayBuilders().getIntBuilder();
-            int[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            int[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -908,22 +1141,19 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                         _verifyNullForPrimitive(ctxt);
                         value = 0;
                     } else {
-                        value = _parseIntPrimitive(p, ctxt);
+                        value = t.isBoolean() ? _booleanAsText(p, ctxt, Integer.TYPE).intValue() : _parseIntPrimitive(p, ctxt);
                     }
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Integer value : sortedMap.values()) {
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
@@ -960,13 +1190,31 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new long[0];
         }
 
+        @Override
+        protected long[] _readList(ConfigList list) {
+            long[] values = new long[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                Number number = _numberOf(list.get(i));
+                if (!(number instanceof Integer) && !(number instanceof Long)) {
+                    return null;
+                }
+                values[i] = number.longValue();
+            }
+            return values;
+        }
+
         @Override
         public long[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            long[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.LongBuilder builder = ctxt.getArrayBuilders().getLongBuilder();
-            long[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            long[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -994,7 +1242,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -1004,9 +1252,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected long[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Long> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.LongBuilder builder = ctxt.getArrayBuilders().getLongBuilder();
-            long[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            long[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -1024,22 +1273,19 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                         _verifyNullForPrimitive(ctxt);
                         value = 0;
                     } else {
-                        value = _parseLongPrimitive(p, ctxt);
+                        value = t.isBoolean() ? _booleanAsText(p, ctxt, Long.TYPE).longValue() : _parseLongPrimitive(p, ctxt);
                     }
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Long value : sortedMap.values()) {
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
@@ -1074,13 +1320,31 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new float[0];
         }
 
+        @Override
+        protected float[] _readList(ConfigList list) {
+            float[] values = new float[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                Number number = _numberOf(list.get(i));
+                if (number == null) {
+                    return null;
+                }
+                values[i] = number.floatValue();
+            }
+            return values;
+        }
+
         @Override
         public float[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            float[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.FloatBuilder builder = ctxt.getArrayBuilders().getFloatBuilder();
-            float[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            float[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -1103,7 +1367,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -1113,9 +1377,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected float[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Float> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.FloatBuilder builder = ctxt.getArrayBuilders().getFloatBuilder();
-            float[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            float[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -1128,21 +1393,18 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                             continue;
                         }
                     }
-                    float value = _parseFloatPrimitive(p, ctxt);
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Float value : sortedMap.values()) {
+                    float value = t.isBoolean() ? _booleanAsText(p, ctxt, Float.TYPE).floatValue() : _parseFloatPrimitive(p, ctxt);
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
@@ -1177,13 +1439,31 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             return new double[0];
         }
 
+        @Override
+        protected double[] _readList(ConfigList list) {
+            double[] values = new double[list.size()];
+            for (int i = 0; i < values.length; ++i) {
+                Number number = _numberOf(list.get(i));
+                if (number == null) {
+                    return null;
+                }
+                values[i] = number.doubleValue();
+            }
+            return values;
+        }
+
         @Override
         public double[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
             if (!p.isExpectedStartArrayToken()) {
                 return handleNonArray(p, ctxt);
             }
+            double[] bulk = _readBulk(p);
+            if (bulk != null) {
+                return bulk;
+            }
             ArrayBuilders.DoubleBuilder builder = ctxt.getArrayBuilders().getDoubleBuilder();
-            double[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            double[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -1205,7 +1485,7 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return _completeChunk(builder, chunk, ix, size);
         }
 
         @Override
@@ -1215,9 +1495,10 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
 
         @Override
         protected double[] handleMapDeserialization(JsonParser p, DeserializationContext ctxt, String startKey) throws IOException {
-            TreeMap<Integer, Double> sortedMap = new TreeMap<>();
+            IndexCollector indexes = new IndexCollector();
             ArrayBuilders.DoubleBuilder builder = ctxt.getArrayBuilders().getDoubleBuilder();
-            double[] chunk = builder.resetAndStart();
+            int size = HoconTreeTraversingParser.containerSize(p);
+            double[] chunk = _startChunk(builder, size);
             int ix = 0;
 
             try {
@@ -1230,21 +1511,18 @@ public abstract class ModifiedPrimitiveArrayDeserializers<T> extends StdDeserial
                             continue;
                         }
                     }
-                    double value = _parseDoublePrimitive(p, ctxt);
-                    sortedMap.put(index, value);
-                }
-                // Build from sorted values
-                for (Double value : sortedMap.values()) {
+                    double value = t.isBoolean() ? _booleanAsText(p, ctxt, Double.TYPE).doubleValue() : _parseDoublePrimitive(p, ctxt);
                     if (ix >= chunk.length) {
                         chunk = builder.appendCompletedChunk(chunk, ix);
                         ix = 0;
                     }
                     chunk[ix++] = value;
+                    indexes.add(index);
                 }
             } catch (Exception e) {
                 throw JsonMappingException.wrapWithPath(e, chunk, builder.bufferedSize() + ix);
             }
-            return builder.completeAndClearBuffer(chunk, ix);
+            return indexes.reorder(_completeChunk(builder, chunk, ix, size));
         }
 
         @Override
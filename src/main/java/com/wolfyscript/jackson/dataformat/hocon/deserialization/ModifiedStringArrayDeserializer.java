@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.LogicalType;
 import com.fasterxml.jackson.databind.util.AccessPattern;
 import com.fasterxml.jackson.databind.util.ObjectBuffer;
+import com.wolfyscript.jackson.dataformat.hocon.HoconIndexedObjectParser;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.Objects;
@@ -302,7 +303,12 @@ public final class ModifiedStringArrayDeserializer
 
     private String[] handleNonArray(JsonParser p, DeserializationContext ctxt) throws IOException {
         if (p.isExpectedStartObjectToken()) {
-            TreeMap<Integer, String> sortedElements = new TreeMap<>();
+            // When the parser orders the entries, the values are appended to the array buffer; otherwise they are sorted first.
+            boolean ordered = HoconIndexedObjectParser.tryOrderIndexedEntries(p);
+            TreeMap<Integer, String> sortedElements = ordered ? null : new TreeMap<>();
+            ObjectBuffer buffer = ordered ? ctxt.leaseObjectBuffer() : null;
+            Object[] chunk = ordered ? buffer.resetAndStart() : null;
+            int ix = 0;
             String key;
             if (p.isExpectedStartObjectToken()) {
                 key = p.nextFieldName();
@@ -319,14 +325,10 @@ public final class ModifiedStringArrayDeserializer
 
             for (; key != null; key = p.nextFieldName()) {
                 String value = p.nextTextValue();
-                int index;
-                try {
-                    index = Integer.parseInt(key);
-                    if (index < 0) {
-                        continue;
-                    }
-                } catch (NumberFormatException exception) {
+                int index = HoconIndexedObjectParser.parseIndex(key);
+                if (index < 0) {
                     // Keys that are not positive integers can be skipped.
+                    p.skipChildren();
                     continue;
                 }
                 try {
@@ -345,12 +347,25 @@ public final class ModifiedStringArrayDeserializer
                             value = _parseString(p, ctxt);
                         }
                     }
-                    sortedElements.put(index, value);
+                    if (!ordered) {
+                        sortedElements.put(index, value);
+                        continue;
+                    }
+                    if (ix >= chunk.length) {
+                        chunk = buffer.appendCompletedChunk(chunk);
+                        ix = 0;
+                    }
+                    chunk[ix++] = value;
                 } catch (Exception e) {
-                    JsonMappingException.wrapWithPath(e, sortedElements, key);
+                    throw JsonMappingException.wrapWithPath(e, String[].class, key);
                 }
             }
 
+            if (ordered) {
+                String[] result = buffer.completeAndClearBuffer(chunk, ix, String.class);
+                ctxt.returnObjectBuffer(buffer);
+                return result;
+            }
             String[] result = (String[]) Array.newInstance(String.class, sortedElements.size());
             int i = 0;
             for (String value : sortedElements.values()) {
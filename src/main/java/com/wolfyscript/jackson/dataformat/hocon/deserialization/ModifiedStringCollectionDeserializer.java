@@ -18,6 +18,7 @@ import com.fasterxml.jackson.databind.deser.std.MapDeserializer;
 import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.type.LogicalType;
+import com.wolfyscript.jackson.dataformat.hocon.HoconIndexedObjectParser;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
@@ -291,7 +292,9 @@ public class ModifiedStringCollectionDeserializer extends ContainerDeserializerB
 
     protected Collection<String> deserializeFromMap(JsonParser p, DeserializationContext ctxt, Collection<String> result) throws IOException {
         final JsonDeserializer<String> valueDes = _valueDeserializer;
-        TreeMap<Integer, String> sortedElements = new TreeMap<>();
+        // When the parser orders the entries, the values are added straight to the collection; otherwise they are sorted first.
+        boolean ordered = HoconIndexedObjectParser.tryOrderIndexedEntries(p);
+        TreeMap<Integer, String> sortedElements = ordered ? null : new TreeMap<>();
         String key;
         if (p.isExpectedStartObjectToken()) {
             key = p.nextFieldName();
@@ -308,14 +311,8 @@ public class ModifiedStringCollectionDeserializer extends ContainerDeserializerB
 
         for (; key != null; key = p.nextFieldName()) {
             JsonToken t = p.nextToken();
-            int index;
-            try {
-                index = Integer.parseInt(key);
-                if (index < 0) {
-                    p.skipChildren();
-                    continue;
-                }
-            } catch (NumberFormatException exception) {
+            int index = HoconIndexedObjectParser.parseIndex(key);
+            if (index < 0) {
                 // Keys that are not positive integers can be skipped.
                 p.skipChildren();
                 continue;
@@ -335,12 +332,18 @@ public class ModifiedStringCollectionDeserializer extends ContainerDeserializerB
                         throw JsonMappingException.wrapWithPath(e, result, result.size());
                     }
                 }
-                sortedElements.put(index, value);
+                if (ordered) {
+                    result.add(value);
+                } else {
+                    sortedElements.put(index, value);
+                }
             } catch (Exception e) {
                 wrapAndThrow(ctxt, e, result, key);
             }
         }
-        result.addAll(sortedElements.values());
+        if (!ordered) {
+            result.addAll(sortedElements.values());
+        }
         return result;
     }
 }
@@ -3,14 +3,19 @@ package com.wolfyscript.jackson.dataformat.hocon.generator;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.Separators;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import com.wolfyscript.jackson.dataformat.hocon.parser.Configuration;
 import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
 import com.wolfyscript.jackson.dataformat.hocon.HoconGenerator;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -72,4 +77,17 @@ public class HoconGeneratorTest {
         Assert.assertEquals(getFileContent(url("test_no_prettyprinter.conf")), config);
     }
 
+    @Test
+    public void testBigDecimal() throws IOException {
+        ObjectMapper mapper = new ObjectMapper(new HoconFactory());
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        values.put("a", new BigDecimal("2.5"));
+        values.put("b", null);
+        values.put("c", BigDecimal.ONE);
+        Config config = ConfigFactory.parseString(mapper.writeValueAsString(values));
+        Assert.assertEquals(2.5, config.getDouble("a"), 0);
+        Assert.assertTrue(config.getIsNull("b"));
+        Assert.assertEquals(1.0, config.getDouble("c"), 0);
+    }
+
 }
@@ -0,0 +1,95 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares binding a parsed Config tree through the tokens of the tree parser with binding it directly
+ * (see {@link HoconMapper#setDirectBinding(boolean)}).<br>
+ * <br>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.wolfyscript.jackson.dataformat.hocon.parser.DirectBindingBenchmark}
+ * <br>
+ * Arguments (optional): number of services in the document (default 1000).
+ */
+public class DirectBindingBenchmark {
+
+	private static final int ROUNDS = 30;
+
+	public static class Limits {
+		public int max;
+		public int min;
+	}
+
+	public static class Service {
+		public String host;
+		public int port;
+		public double timeout;
+		public boolean enabled;
+		public List<String> tags;
+		public Limits limits;
+	}
+
+	public static class Document {
+		public Map<String, Service> services;
+		public Service fallback;
+	}
+
+	public static void main(String[] args) throws IOException {
+		int services = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+		StringBuilder sb = new StringBuilder("fallback { host = localhost, port = 80, timeout = 1.5, enabled = true, tags = [a], limits { max = 1, min = 0 } }\n");
+		sb.append("services {\n");
+		for (int i = 0; i < services; ++i) {
+			sb.append("  service-").append(i).append(" { host = \"host-").append(i).append("\", port = ").append(8000 + i)
+					.append(", timeout = ").append(i % 7).append(".5, enabled = ").append(i % 2 == 0)
+					.append(", tags = [a, b, c], limits { max = ").append(i).append(", min = 0 } }\n");
+		}
+		sb.append("}\n");
+		ConfigObject root = ConfigFactory.parseString(sb.toString()).resolve().root();
+
+		ConfigObject serviceRoots = (ConfigObject) root.get("services");
+
+		HoconMapper tokens = new HoconMapper();
+		HoconMapper direct = new HoconMapper().setDirectBinding(true);
+		System.out.printf("%d services, median of %d rounds%n", services, ROUNDS);
+		// the services are map values, which are bound from tokens in both modes
+		report("whole document", median(() -> tokens.readValue(root, Document.class)), median(() -> direct.readValue(root, Document.class)));
+		report("each service", median(() -> readEach(tokens, serviceRoots)), median(() -> readEach(direct, serviceRoots)));
+	}
+
+	private interface Read {
+		void run() throws IOException;
+	}
+
+	private static void readEach(HoconMapper mapper, ConfigObject serviceRoots) throws IOException {
+		for (Object service : serviceRoots.values()) {
+			mapper.readValue((ConfigObject) service, Service.class);
+		}
+	}
+
+	private static void report(String name, long tokenMicros, long directMicros) {
+		System.out.printf("%-15s tokens: %6d us, direct: %6d us, speedup: %5.2fx%n", name, tokenMicros, directMicros, tokenMicros / (double) Math.max(1, directMicros));
+	}
+
+	private static long median(Read read) throws IOException {
+		// warm up
+		for (int i = 0; i < 300; ++i) {
+			read.run();
+		}
+		long[] times = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; ++i) {
+			long start = System.nanoTime();
+			for (int j = 0; j < 10; ++j) {
+				read.run();
+			}
+			times[i] = (System.nanoTime() - start) / 10_000;
+		}
+		Arrays.sort(times);
+		return times[ROUNDS / 2];
+	}
+}
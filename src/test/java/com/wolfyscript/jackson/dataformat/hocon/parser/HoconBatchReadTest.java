@@ -0,0 +1,111 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.typesafe.config.ConfigException;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadResult;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HoconBatchReadTest {
+
+	private static final HoconMapper MAPPER = new HoconMapper();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Records the threads it is bound on.
+	 */
+	public static class Tenant {
+		static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+
+		public void setId(int id) {
+			THREADS.add(Thread.currentThread());
+		}
+	}
+
+	private Path write(String name, String content) throws IOException {
+		Path path = folder.getRoot().toPath().resolve(name);
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+		return path;
+	}
+
+	@Test
+	public void testReadValues() throws IOException {
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 50; ++i) {
+			paths.add(write("tenant" + i + ".conf", "id = " + i + "\nname = tenant" + i));
+		}
+		List<HoconReadResult<Map>> results = MAPPER.readValues(paths, Map.class);
+		Assert.assertEquals(paths.size(), results.size());
+		for (int i = 0; i < paths.size(); ++i) {
+			HoconReadResult<Map> result = results.get(i);
+			Assert.assertTrue(result.isSuccess());
+			Assert.assertEquals(paths.get(i), result.getPath());
+			Assert.assertEquals(i, result.get().get("id"));
+			Assert.assertEquals("tenant" + i, result.getValue().get("name"));
+		}
+	}
+
+	@Test
+	public void testErrors() throws IOException {
+		List<Path> paths = new ArrayList<>();
+		paths.add(write("valid.conf", "a = 1"));
+		paths.add(write("invalid.conf", "a = [1"));
+		paths.add(write("unbound.conf", "a = ${missing}"));
+		paths.add(write("also-valid.conf", "a = 2"));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<HoconReadResult<JsonNode>> results = MAPPER.readValues(paths, MAPPER.constructType(JsonNode.class), executor);
+			Assert.assertEquals(1, results.get(0).get().get("a").asInt());
+			Assert.assertFalse(results.get(1).isSuccess());
+			Assert.assertNull(results.get(1).getValue());
+			Assert.assertThrows(ConfigException.class, results.get(1)::get);
+			Assert.assertTrue(results.get(2).getError() instanceof ConfigException.UnresolvedSubstitution);
+			Assert.assertEquals(2, results.get(3).get().get("a").asInt());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// binding errors
+		HoconReadResult<Integer> result = MAPPER.readValues(paths.subList(0, 1), Integer.class).get(0);
+		Assert.assertTrue(result.getError() instanceof JsonProcessingException);
+	}
+
+	@Test
+	public void testDefaultExecutor() throws IOException {
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 20; ++i) {
+			paths.add(write("tenant" + i + ".conf", "id = " + i));
+		}
+		Tenant.THREADS.clear();
+		List<HoconReadResult<Tenant>> results = MAPPER.readValues(paths, Tenant.class);
+		for (HoconReadResult<Tenant> result : results) {
+			Assert.assertTrue(result.isSuccess());
+		}
+		Assert.assertFalse(Tenant.THREADS.isEmpty());
+		Assert.assertTrue(Tenant.THREADS.size() <= Runtime.getRuntime().availableProcessors());
+		for (Thread thread : Tenant.THREADS) {
+			// not the common pool
+			Assert.assertFalse(thread instanceof ForkJoinWorkerThread);
+			Assert.assertTrue(thread.isDaemon());
+		}
+		Assert.assertTrue(MAPPER.readValues(new ArrayList<>(), Tenant.class).isEmpty());
+	}
+}
@@ -0,0 +1,198 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigObject;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wolfyscript.jackson.dataformat.hocon.HoconCachingIncluder;
+import com.wolfyscript.jackson.dataformat.hocon.HoconConfigCache;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HoconConfigCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static void write(File f, String content) throws IOException {
+		Files.write(f.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testFiles() throws IOException {
+		HoconConfigCache cache = new HoconConfigCache(10, 1, TimeUnit.HOURS);
+		HoconMapper mapper = new HoconMapper(new HoconFactory().setConfigCache(cache));
+		File f = folder.newFile("test.conf");
+		write(f, "a = 1");
+		Assert.assertEquals(1, mapper.readTree(f).get("a").asInt());
+		Assert.assertEquals(1, cache.size());
+		Assert.assertSame(cache.get(f), cache.get(f));
+		// the factory also keys the entry on its features
+		Assert.assertEquals(2, cache.size());
+		try (JsonParser p = mapper.getFactory().createParser(f)) {
+			Assert.assertEquals(HoconTreeTraversingParser.class, p.getClass());
+		}
+
+		// the size changed
+		write(f, "a = 22");
+		Assert.assertEquals(22, mapper.readTree(f).get("a").asInt());
+		Assert.assertEquals(22, mapper.readTree(f.toURI().toURL()).get("a").asInt());
+		Assert.assertEquals(3, cache.size());
+
+		// copies share the cache
+		Assert.assertSame(cache, mapper.getFactory().copy().getConfigCache());
+	}
+
+	@Test
+	public void testVariants() throws IOException {
+		HoconConfigCache cache = new HoconConfigCache(10, 1, TimeUnit.HOURS);
+		ConfigIncluder includer = new ConfigIncluder() {
+			@Override
+			public ConfigIncluder withFallback(ConfigIncluder fallback) {
+				return this;
+			}
+
+			@Override
+			public ConfigObject include(ConfigIncludeContext context, String what) {
+				return ConfigFactory.parseString("b = 2").root();
+			}
+		};
+		HoconFactory factory = new HoconFactory().setConfigCache(cache);
+		HoconMapper plain = new HoconMapper(factory);
+		HoconMapper including = new HoconMapper(factory.copy().setConfigIncluder(includer));
+		HoconMapper stripped = new HoconMapper(factory.copy().enable(HoconReadFeature.STRIP_ORIGINS));
+		File f = folder.newFile("test.conf");
+		write(f, "include \"other\"\na = 1");
+
+		Assert.assertNull(plain.readTree(f).get("b"));
+		Assert.assertEquals(2, including.readTree(f).get("b").asInt());
+		Assert.assertNull(plain.readTree(f).get("b"));
+		try (JsonParser p = stripped.getFactory().createParser(f)) {
+			p.nextToken();
+			p.nextToken();
+			// the tree of the plain factory keeps the origins and so the line of the token
+			Assert.assertEquals(-1, p.getTokenLocation().getLineNr());
+		}
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void testEviction() throws IOException {
+		HoconConfigCache cache = new HoconConfigCache(2, 1, TimeUnit.HOURS);
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 3; ++i) {
+			File f = folder.newFile("test" + i + ".conf");
+			write(f, "a = " + i);
+			files.add(f);
+		}
+		ConfigObject first = cache.get(files.get(0));
+		cache.get(files.get(1));
+		cache.get(files.get(0));
+		cache.get(files.get(2));
+		Assert.assertEquals(2, cache.size());
+		// least recently used
+		Assert.assertSame(first, cache.get(files.get(0)));
+
+		HoconConfigCache expired = new HoconConfigCache(2, 0, TimeUnit.NANOSECONDS);
+		Assert.assertNotSame(expired.get(files.get(0)), expired.get(files.get(0)));
+		Assert.assertNull(cache.get(new File(folder.getRoot(), "missing.conf")));
+	}
+
+	@Test
+	public void testSingleLoad() throws Exception {
+		HoconConfigCache cache = new HoconConfigCache(10, 1, TimeUnit.HOURS);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<ConfigObject>> results = new ArrayList<>();
+			for (int i = 0; i < 4; ++i) {
+				results.add(executor.submit(() -> cache.get("key", 1, 1, () -> {
+					loads.incrementAndGet();
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						throw new IllegalStateException(e);
+					}
+					return ConfigFactory.parseString("a = 1");
+				})));
+			}
+			started.await();
+			release.countDown();
+			ConfigObject first = results.get(0).get();
+			for (Future<ConfigObject> result : results) {
+				Assert.assertSame(first, result.get());
+			}
+			Assert.assertEquals(1, loads.get());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// failed loads are not cached
+		Assert.assertThrows(IllegalStateException.class, () -> cache.get("failing", 1, 1, () -> {
+			throw new IllegalStateException();
+		}));
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testIncluder() throws IOException {
+		HoconCachingIncluder includer = new HoconCachingIncluder(new HoconConfigCache(10, 1, TimeUnit.HOURS));
+		HoconMapper mapper = new HoconMapper(new HoconFactory().setConfigIncluder(includer));
+		File base = folder.newFile("base.conf");
+		write(base, "a = 1, b = ${c}");
+		write(folder.newFile("defaults.json"), "{ \"d\": 4 }");
+		File first = folder.newFile("first.conf");
+		write(first, "include \"base.conf\"\ninclude \"defaults\"\nc = 3");
+		File second = folder.newFile("second.conf");
+		write(second, "include \"base.conf\"\ninclude \"defaults\"\nc = 5");
+
+		JsonNode node = mapper.readTree(first);
+		Assert.assertEquals(1, node.get("a").asInt());
+		Assert.assertEquals(3, node.get("b").asInt());
+		Assert.assertEquals(4, node.get("d").asInt());
+		Assert.assertEquals(2, includer.getMissCount());
+		Assert.assertEquals(0, includer.getHitCount());
+
+		// substitutions are resolved for each document
+		node = mapper.readTree(second);
+		Assert.assertEquals(5, node.get("b").asInt());
+		Assert.assertEquals(4, node.get("d").asInt());
+		Assert.assertEquals(2, includer.getMissCount());
+		Assert.assertEquals(2, includer.getHitCount());
+
+		write(base, "a = 11, b = ${c}");
+		Assert.assertEquals(11, mapper.readTree(second).get("a").asInt());
+		Assert.assertEquals(3, includer.getMissCount());
+		Assert.assertEquals(3, includer.getHitCount());
+
+		// classpath resources
+		HoconTreeTraversingParserTest.assertConf(mapper.readValue(HoconTreeTraversingParserTest.url("test-inclusion.conf"), Configuration.class));
+		HoconTreeTraversingParserTest.assertConf(mapper.readValue(HoconTreeTraversingParserTest.url("test-inclusion.conf"), Configuration.class));
+		Assert.assertEquals(4, includer.getMissCount());
+		Assert.assertEquals(4, includer.getHitCount());
+	}
+}
@@ -0,0 +1,117 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import com.typesafe.config.ConfigValueType;
+import com.wolfyscript.jackson.dataformat.hocon.HoconConfigGenerator;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HoconConfigGeneratorTest {
+
+	private static final HoconMapper MAPPER = new HoconMapper();
+
+	public enum Mode { FAST, SAFE }
+
+	public static class Server {
+		public String host = "localhost";
+		public int port = 8080;
+	}
+
+	public static class Defaults {
+		public String name = "app \"quoted\"";
+		public long timeout = 10_000_000_000L;
+		public double ratio = 0.25;
+		public float scale = 1.1f;
+		public BigInteger big = new BigInteger("123456789012345678901234567890");
+		public BigDecimal decimal = new BigDecimal("2.5");
+		public boolean enabled = true;
+		public String missing = null;
+		public byte[] data = new byte[] { 1, 2, 3 };
+		public Mode mode = Mode.SAFE;
+		public List<String> tags = Arrays.asList("a", "b");
+		public Map<String, Object> extra = new LinkedHashMap<>();
+		public Server server = new Server();
+		public Server[] replicas = new Server[] { new Server() };
+
+		public Defaults() {
+			extra.put("nested", Arrays.asList(1, 2.5, null));
+		}
+	}
+
+	@Test
+	public void testValueToConfig() throws IOException {
+		Defaults defaults = new Defaults();
+		ConfigObject config = MAPPER.valueToConfig(defaults);
+		// the same as writing the value as text and parsing it again
+		Assert.assertEquals(ConfigFactory.parseString(MAPPER.writeValueAsString(defaults)).root(), config);
+		Assert.assertEquals("localhost", config.toConfig().getConfigList("replicas").get(0).getString("host"));
+		Assert.assertEquals(ConfigValueType.NULL, config.get("missing").valueType());
+		Assert.assertEquals("123456789012345678901234567890", config.toConfig().getString("big"));
+		Assert.assertTrue(config.origin().description().contains(Defaults.class.getName()));
+
+		// binds to the same value again
+		Defaults read = MAPPER.readValue(config, Defaults.class);
+		Assert.assertEquals(defaults.scale, read.scale, 0);
+		Assert.assertEquals(defaults.tags, read.tags);
+
+		// scalars and Config values
+		Assert.assertEquals(ConfigValueFactory.fromAnyRef("text"), MAPPER.valueToConfig("text"));
+		Assert.assertEquals(ConfigValueFactory.fromAnyRef(Arrays.asList(1, 2)), MAPPER.valueToConfig(new int[] { 1, 2 }));
+		Assert.assertSame(config, MAPPER.valueToConfig(config));
+		Assert.assertSame(config, MAPPER.valueToConfig(config.toConfig()));
+		Assert.assertNull(MAPPER.valueToConfig(null));
+
+		JsonNode tree = MAPPER.readTree("a = 1, b { c = [true] }");
+		Assert.assertEquals(ConfigFactory.parseString("a = 1, b { c = [true] }").root(), MAPPER.valueToConfig(tree));
+	}
+
+	@Test
+	public void testFallback() throws IOException {
+		Config file = ConfigFactory.parseString("port = 9090, server { host = example.org }");
+		Config merged = file.withFallback(MAPPER.<ConfigObject>valueToConfig(new Defaults()));
+		Assert.assertEquals(9090, merged.getInt("port"));
+		Assert.assertEquals("example.org", merged.getString("server.host"));
+		Assert.assertEquals(8080, merged.getInt("server.port"));
+		Assert.assertEquals(0.25, merged.getDouble("ratio"), 0);
+	}
+
+	@Test
+	public void testGenerator() throws IOException {
+		HoconConfigGenerator g = new HoconConfigGenerator(0, MAPPER, "test");
+		g.writeStartObject();
+		g.writeFieldName("a");
+		g.writeNumber("12");
+		g.writeFieldName("b");
+		g.writeNumber("1.5e3");
+		g.writeFieldName("c");
+		g.writeObject(ConfigValueFactory.fromAnyRef(Arrays.asList("x")));
+		g.writeArrayFieldStart("d");
+		g.writeNumber(new BigInteger("42"));
+		Assert.assertThrows(IllegalStateException.class, g::getConfigValue);
+		g.writeEndArray();
+		g.writeEndObject();
+		ConfigValue value = g.getConfigValue();
+		Assert.assertEquals(ConfigFactory.parseString("a = 12, b = 1500.0, c = [x], d = [42]").root(), value);
+		Assert.assertThrows(IOException.class, () -> g.writeString("second root"));
+		Assert.assertThrows(UnsupportedOperationException.class, () -> g.writeRaw("raw"));
+		Assert.assertNull(new HoconConfigGenerator(0, MAPPER, "test").getConfigValue());
+
+		HoconConfigGenerator strings = new HoconConfigGenerator(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS.mappedFeature().getMask(), MAPPER, "test");
+		strings.writeNumber(5);
+		Assert.assertEquals(ConfigValueFactory.fromAnyRef("5"), strings.getConfigValue());
+	}
+}
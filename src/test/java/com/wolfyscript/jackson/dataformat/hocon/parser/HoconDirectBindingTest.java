@@ -0,0 +1,183 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconNodeCursor;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HoconDirectBindingTest {
+
+	private static final HoconMapper TOKENS = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+	private static final HoconMapper DIRECT = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER)).setDirectBinding(true);
+
+	public static class Path extends JsonDeserializer<String> {
+		@Override
+		public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+			return ((HoconNodeCursor) p.getParsingContext()).constructPath() + "=" + p.getText();
+		}
+	}
+
+	@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+	@JsonSubTypes({ @JsonSubTypes.Type(value = Circle.class, name = "circle") })
+	public static abstract class Shape {
+	}
+
+	public static class Circle extends Shape {
+		public double radius;
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Circle && ((Circle) o).radius == radius;
+		}
+	}
+
+	public static class Point {
+		public final int x;
+		public final int y;
+
+		@JsonCreator
+		public Point(@JsonProperty("x") int x, @JsonProperty("y") int y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Point && ((Point) o).x == x && ((Point) o).y == y;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Lenient {
+		public int a;
+	}
+
+	public static class Name {
+		public String first;
+		public String last;
+	}
+
+	public static class Inner {
+		public int value;
+		@JsonProperty("renamed")
+		public String name;
+		private List<Integer> numbers;
+		@JsonDeserialize(using = Path.class)
+		public String path;
+
+		public List<Integer> getNumbers() {
+			return numbers;
+		}
+
+		public void setNumbers(List<Integer> numbers) {
+			this.numbers = numbers;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Inner)) {
+				return false;
+			}
+			Inner other = (Inner) o;
+			return value == other.value && Objects.equals(name, other.name) && Objects.equals(numbers, other.numbers) && Objects.equals(path, other.path);
+		}
+	}
+
+	public static class Outer {
+		public String title;
+		public Inner inner;
+		public Map<String, Inner> inners;
+		public Shape shape;
+		public Point point;
+		public Lenient lenient;
+		@JsonAlias("aliased")
+		public int alias;
+		public Outer nested;
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Outer)) {
+				return false;
+			}
+			Outer other = (Outer) o;
+			return Objects.equals(title, other.title) && Objects.equals(inner, other.inner) && Objects.equals(inners, other.inners)
+					&& Objects.equals(shape, other.shape) && Objects.equals(point, other.point) && alias == other.alias
+					&& ((lenient == null) ? other.lenient == null : other.lenient != null && lenient.a == other.lenient.a)
+					&& Objects.equals(nested, other.nested);
+		}
+	}
+
+	public static class Unwrapping {
+		public int age;
+		@JsonUnwrapped
+		public Name name;
+	}
+
+	private static final String DOCUMENT = "title = test\n"
+			+ "inner { value = 1, renamed = one, numbers = [1, 2, \"3\"], path = p }\n"
+			+ "inners { a { value = 2 } }\n"
+			+ "shape { type = circle, radius = 1.5 }\n"
+			+ "point { x = 1, y = 2 }\n"
+			+ "lenient { a = 1, b = 2 }\n"
+			+ "nested { title = nested, inner { path = deep } }";
+
+	@Test
+	public void testSameAsTokens() throws IOException {
+		Outer expected = TOKENS.readValue(DOCUMENT, Outer.class);
+		Outer actual = DIRECT.readValue(DOCUMENT, Outer.class);
+		Assert.assertEquals(expected, actual);
+		Assert.assertEquals("null.inner.path=p", actual.inner.path);
+		Assert.assertEquals("null.nested.inner.path=deep", actual.nested.inner.path);
+		// aliases are left to the deserializer
+		Assert.assertEquals(5, DIRECT.readValue("aliased = 5", Outer.class).alias);
+		Assert.assertEquals(new Point(1, 2), actual.point);
+		Assert.assertEquals(1.5, ((Circle) actual.shape).radius, 0);
+
+		Unwrapping unwrapping = DIRECT.readValue("age = 3, first = a, last = b", Unwrapping.class);
+		Assert.assertEquals(3, unwrapping.age);
+		Assert.assertEquals("a", unwrapping.name.first);
+
+		Assert.assertEquals(TOKENS.readValue(DOCUMENT, Map.class), DIRECT.readValue(DOCUMENT, Map.class));
+	}
+
+	@Test
+	public void testBindsDirectly() throws IOException {
+		HoconMapper mapper = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER)) {
+			{
+				setDirectBinding(true);
+				readValue(DOCUMENT, Outer.class);
+				// Outer, Inner and Lenient (though not its object, which has an unknown key), but not Point (creator)
+				Assert.assertEquals(_directlyBindable.toString(), 3, _directlyBindable.values().stream().filter(Boolean::booleanValue).count());
+			}
+		};
+		Assert.assertTrue(mapper.isDirectBinding());
+	}
+
+	@Test
+	public void testErrors() {
+		Assert.assertThrows(UnrecognizedPropertyException.class, () -> DIRECT.readValue("inner { value = 1, unknown = 2 }", Outer.class));
+		JsonMappingException e = Assert.assertThrows(JsonMappingException.class, () -> DIRECT.readValue("inner { value = text }", Outer.class));
+		Assert.assertEquals(2, e.getPath().size());
+		Assert.assertEquals("inner", e.getPath().get(0).getFieldName());
+		Assert.assertEquals("value", e.getPath().get(1).getFieldName());
+	}
+}
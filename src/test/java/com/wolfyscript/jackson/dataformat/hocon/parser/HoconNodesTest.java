@@ -0,0 +1,157 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconArrayNode;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconNodes;
+import com.wolfyscript.jackson.dataformat.hocon.HoconObjectNode;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HoconNodesTest {
+
+	private static final HoconMapper MAPPER = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+
+	private static final String DOCUMENT = "a = 1\nb { c = text, d = [1, 2.5, {e = true}], f = null }\ng = 10000000000";
+
+	private static final String JSON = "{\"a\":1,\"b\":{\"c\":\"text\",\"d\":[1,2.5,{\"e\":true}],\"f\":null},\"g\":10000000000}";
+
+	@Test
+	public void testReadTree() throws IOException {
+		JsonNode node = MAPPER.readTree(DOCUMENT);
+		Assert.assertTrue(node instanceof HoconObjectNode);
+		JsonNode expected = new ObjectMapper().readTree(JSON);
+		Assert.assertEquals(expected, node);
+		Assert.assertEquals(node, expected);
+		Assert.assertEquals(expected.hashCode(), node.hashCode());
+		Assert.assertEquals(expected, MAPPER.readTree(DOCUMENT).deepCopy());
+
+		node = MAPPER.readTree(DOCUMENT);
+		JsonNode b = node.get("b");
+		// created once, then reused
+		Assert.assertSame(b, node.get("b"));
+		Assert.assertSame(b.get("d"), b.path("d"));
+		Assert.assertTrue(b.get("d") instanceof HoconArrayNode);
+		Assert.assertEquals(2.5, b.get("d").get(1).doubleValue(), 0);
+		Assert.assertTrue(b.get("f").isNull());
+		Assert.assertTrue(node.get("g").isLong());
+		Assert.assertNull(node.get("missing"));
+		Assert.assertTrue(node.has("a"));
+		Assert.assertEquals(3, node.size());
+		Assert.assertEquals(expected, new ObjectMapper().readTree(node.toString()));
+
+		node = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER)).enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree("a = 0.30000000000000000001");
+		Assert.assertEquals(new BigDecimal("0.30000000000000000001"), node.get("a").decimalValue());
+	}
+
+	@Test
+	public void testNumberText() {
+		Config config = ConfigFactory.parseString("a = 1.0, b = 1e400, c = 10.50");
+		Assert.assertEquals("1.0", HoconNodes.numberText(config.getValue("a")));
+		Assert.assertEquals("1e400", HoconNodes.numberText(config.getValue("b")));
+		Assert.assertEquals("10.50", HoconNodes.numberText(config.getValue("c")));
+		Assert.assertEquals("2.5", HoconNodes.numberText(ConfigValueFactory.fromAnyRef(2.5)));
+	}
+
+	@Test
+	public void testModify() throws IOException {
+		HoconObjectNode node = (HoconObjectNode) MAPPER.readTree(DOCUMENT);
+		Assert.assertNotNull(node.getConfigObject());
+		JsonNode b = node.get("b");
+		node.put("h", "new");
+		node.remove("a");
+		Assert.assertNull(node.getConfigObject());
+		Assert.assertSame(b, node.get("b"));
+		Assert.assertEquals("new", node.get("h").asText());
+		Assert.assertFalse(node.has("a"));
+		Assert.assertEquals(3, node.size());
+
+		ArrayNode d = (ArrayNode) b.get("d");
+		JsonNode last = d.get(2);
+		d.add(3);
+		d.insert(0, "first");
+		Assert.assertNull(((HoconArrayNode) d).getConfigList());
+		Assert.assertSame(last, d.get(3));
+		Assert.assertEquals(5, d.size());
+		Iterator<JsonNode> it = d.elements();
+		it.next();
+		it.remove();
+		Assert.assertEquals(1, d.get(0).asInt());
+		((ObjectNode) b).removeAll();
+		Assert.assertEquals(0, b.size());
+	}
+
+	@Test
+	public void testConversion() throws IOException {
+		Config config = ConfigFactory.parseString(DOCUMENT);
+		JsonNode node = MAPPER.valueToTree(config);
+		Assert.assertEquals(new ObjectMapper().readTree(JSON), node);
+		// views that were not modified are the values themselves
+		Assert.assertSame(config.root(), MAPPER.treeToValue(node, ConfigObject.class));
+		Assert.assertSame(config.root(), MAPPER.treeToValue(node, Config.class).root());
+		Assert.assertEquals(config.getList("b.d"), MAPPER.treeToValue(node.get("b").get("d"), ConfigList.class));
+
+		((ObjectNode) node).put("h", 1.5);
+		ConfigObject modified = MAPPER.treeToValue(node, ConfigObject.class);
+		Assert.assertEquals(1.5, modified.toConfig().getDouble("h"), 0);
+		Assert.assertSame(config.getObject("b"), modified.get("b"));
+
+		ConfigValue value = MAPPER.treeToValue(new ObjectMapper().readTree("{\"a\":[1,\"x\",null],\"b\":123456789012345678901234567890}"), ConfigValue.class);
+		Config converted = ((ConfigObject) value).toConfig();
+		Assert.assertEquals(1, converted.getList("a").get(0).unwrapped());
+		Assert.assertEquals("123456789012345678901234567890", converted.getString("b"));
+
+		Assert.assertEquals(1, (int) MAPPER.treeToValue(MAPPER.valueToTree(config.getValue("a")), Integer.class));
+		Assert.assertThrows(JsonProcessingException.class, () -> MAPPER.treeToValue(node.get("a"), ConfigObject.class));
+	}
+
+	@Test
+	public void testNestedModify() throws IOException {
+		JsonNode root = MAPPER.readTree("a { x = 1 }\nb = ${a}");
+		ConfigObject source = ((HoconObjectNode) root).getConfigObject();
+		// reading does not modify
+		Assert.assertEquals("{\"a\":{\"x\":1},\"b\":{\"x\":1}}", root.toString());
+		for (Iterator<JsonNode> it = root.elements(); it.hasNext(); ) {
+			it.next();
+		}
+		Assert.assertEquals(root, root.deepCopy());
+		Assert.assertSame(source, ((HoconObjectNode) root).getConfigObject());
+		Assert.assertSame(source.get("a"), ((HoconObjectNode) root.get("a")).getConfigObject());
+
+		((ObjectNode) root.get("a")).put("x", 7);
+		Assert.assertNull(((HoconObjectNode) root).getConfigObject());
+		Config config = MAPPER.treeToValue(root, Config.class);
+		Assert.assertEquals(7, config.getInt("a.x"));
+		Assert.assertEquals(1, config.getInt("b.x"));
+
+		// in arrays as well
+		JsonNode node = MAPPER.readTree(DOCUMENT);
+		((ObjectNode) node.get("b").get("d").get(2)).put("e", false);
+		Assert.assertNull(((HoconArrayNode) node.get("b").get("d")).getConfigList());
+		Assert.assertFalse(((ConfigObject) MAPPER.treeToValue(node, Config.class).getList("b.d").get(2)).toConfig().getBoolean("e"));
+
+		// removing through the iterator
+		node = MAPPER.readTree(DOCUMENT);
+		Iterator<String> names = node.get("b").fieldNames();
+		String removed = names.next();
+		names.remove();
+		Assert.assertFalse(MAPPER.treeToValue(node, Config.class).getObject("b").containsKey(removed));
+		Assert.assertEquals(2, MAPPER.treeToValue(node, Config.class).getObject("b").size());
+	}
+}
@@ -0,0 +1,73 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconPathSelector;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HoconPathSelectorTest {
+
+	private static final HoconMapper STREAMING = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+	private static final HoconMapper TREE = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+	private static final HoconMapper DIRECT = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER)).setDirectBinding(true);
+
+	private static final String DOCUMENT = "web { port = 80, hosts = [a, b] }\n"
+			+ "ignored { deep { deeper = [1, 2, { x = y }] } }\n"
+			+ "service {\n"
+			+ "  database { url = \"jdbc:h2:mem\", pool { size = 4 } }\n"
+			+ "  replicas = [ { url = r1 }, { url = r2 } ]\n"
+			+ "  none = null\n"
+			+ "}\n";
+
+	public static class Database {
+		public String url;
+		public Map<String, Integer> pool;
+	}
+
+	@Test
+	public void testReadValuesAt() throws IOException {
+		HoconPathSelector selector = new HoconPathSelector()
+				.select("service.database", Database.class)
+				.select("service.database.pool.size", Integer.class)
+				.select("web.hosts", new TypeReference<List<String>>() { }.getType())
+				.select(JsonPointer.compile("/service/replicas/1/url"), String.class)
+				.select("web.port", String.class)
+				.select("service.none", Database.class)
+				.select("service.missing", Database.class)
+				.select("web.hosts.5", String.class);
+		for (HoconMapper mapper : Arrays.asList(STREAMING, TREE, DIRECT)) {
+			Map<String, Object> values = mapper.readValuesAt(DOCUMENT, selector);
+			Assert.assertEquals(Arrays.asList("service.database", "service.database.pool.size", "web.hosts", "/service/replicas/1/url", "web.port", "service.none"),
+					Arrays.asList(values.keySet().toArray()));
+			Database database = (Database) values.get("service.database");
+			Assert.assertEquals("jdbc:h2:mem", database.url);
+			Assert.assertEquals(4, (int) database.pool.get("size"));
+			Assert.assertEquals(4, values.get("service.database.pool.size"));
+			Assert.assertEquals(Arrays.asList("a", "b"), values.get("web.hosts"));
+			Assert.assertEquals("r2", values.get("/service/replicas/1/url"));
+			Assert.assertEquals("80", values.get("web.port"));
+			Assert.assertNull(values.get("service.none"));
+		}
+
+		HoconPathSelector first = new HoconPathSelector().select("web.port", Integer.class);
+		Assert.assertEquals(80, STREAMING.readValuesAt(DOCUMENT, first).get("web.port"));
+		Assert.assertTrue(new HoconPathSelector().getPaths().isEmpty());
+		Assert.assertTrue(STREAMING.readValuesAt(DOCUMENT, new HoconPathSelector()).isEmpty());
+	}
+
+	@Test
+	public void testSelect() {
+		HoconPathSelector selector = new HoconPathSelector().select("a.\"b.c\"", String.class);
+		Assert.assertNotNull(selector.getRoot().getChild("a").getChild("b.c"));
+		Assert.assertEquals(1, selector.size());
+		Assert.assertThrows(IllegalArgumentException.class, () -> selector.select(JsonPointer.compile("/a/b.c"), Integer.class));
+	}
+}
@@ -0,0 +1,241 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigIncluderClasspath;
+import com.typesafe.config.ConfigIncluderFile;
+import com.typesafe.config.ConfigObject;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HoconPrefetchingIncluderTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Includer that delays every heuristic include, like slow storage would.
+	 */
+	static class DelayingIncluder implements ConfigIncluder {
+		private final Runnable delay;
+		private final ConfigIncluder fallback;
+
+		DelayingIncluder(Runnable delay) {
+			this(delay, null);
+		}
+
+		private DelayingIncluder(Runnable delay, ConfigIncluder fallback) {
+			this.delay = delay;
+			this.fallback = fallback;
+		}
+
+		@Override
+		public ConfigIncluder withFallback(ConfigIncluder fallback) {
+			return new DelayingIncluder(delay, fallback);
+		}
+
+		@Override
+		public ConfigObject include(ConfigIncludeContext context, String what) {
+			delay.run();
+			return fallback.include(context, what);
+		}
+	}
+
+	/**
+	 * Includer that records the includes loaded on other threads than the parsing one, with the class loader of
+	 * the parse options.
+	 */
+	static class RecordingIncluder implements ConfigIncluder, ConfigIncluderFile, ConfigIncluderClasspath {
+		private final Thread parsing;
+		private final List<String> loaded;
+		private final List<ClassLoader> loaders;
+		private final ConfigIncluder fallback;
+
+		RecordingIncluder(Thread parsing) {
+			this(parsing, new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>(), null);
+		}
+
+		private RecordingIncluder(Thread parsing, List<String> loaded, List<ClassLoader> loaders, ConfigIncluder fallback) {
+			this.parsing = parsing;
+			this.loaded = loaded;
+			this.loaders = loaders;
+			this.fallback = fallback;
+		}
+
+		private void record(ConfigIncludeContext context, String what) {
+			if (Thread.currentThread() != parsing) {
+				loaded.add(what);
+				loaders.add(context.parseOptions().getClassLoader());
+			}
+		}
+
+		@Override
+		public ConfigIncluder withFallback(ConfigIncluder fallback) {
+			return new RecordingIncluder(parsing, loaded, loaders, fallback);
+		}
+
+		@Override
+		public ConfigObject include(ConfigIncludeContext context, String what) {
+			record(context, what);
+			return fallback.include(context, what);
+		}
+
+		@Override
+		public ConfigObject includeFile(ConfigIncludeContext context, File what) {
+			record(context, "file:" + what.getName());
+			return ConfigFactory.parseFileAnySyntax(what, context.parseOptions()).root();
+		}
+
+		@Override
+		public ConfigObject includeResources(ConfigIncludeContext context, String what) {
+			record(context, "classpath:" + what);
+			return ConfigFactory.parseResourcesAnySyntax(what, context.parseOptions()).root();
+		}
+	}
+
+	static void write(File f, String content) throws IOException {
+		Files.write(f.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates a document with the specified number of includes, that all set the same key.
+	 */
+	static File document(File dir, int includes) throws IOException {
+		StringBuilder doc = new StringBuilder("# include \"commented.conf\"\n");
+		for (int i = 0; i < includes; ++i) {
+			write(new File(dir, "include" + i + ".conf"), "last = " + i + "\nvalue" + i + " = ${base}\nnested { n" + i + " = " + i + " }");
+			doc.append((i % 2 == 0) ? "include \"include" + i + ".conf\"\n" : "include required(\"include" + i + ".conf\")\n");
+		}
+		doc.append("base = 42\n");
+		File f = new File(dir, "document.conf");
+		write(f, doc.toString());
+		return f;
+	}
+
+	@Test
+	public void testSameAsSerial() throws IOException {
+		File dir = folder.getRoot();
+		File document = document(dir, 10);
+		write(new File(dir, "sub.conf"), "include \"include3.conf\"\nsub = true");
+		write(new File(dir, "document.conf"), new String(Files.readAllBytes(document.toPath()), StandardCharsets.UTF_8)
+				+ "a { include \"sub.conf\" }, include file(\"" + new File(dir, "include1.conf").getPath().replace("\\", "\\\\") + "\")\n"
+				+ "include \"missing.conf\"\n");
+
+		JsonNode expected = new HoconMapper().readTree(document);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			HoconMapper mapper = new HoconMapper(new HoconFactory().setIncludeExecutor(executor));
+			JsonNode node = mapper.readTree(document);
+			Assert.assertEquals(expected, node);
+			// the last include wins
+			Assert.assertEquals(1, node.get("last").asInt());
+			Assert.assertEquals(42, node.get("value9").asInt());
+			Assert.assertTrue(node.get("a").get("sub").asBoolean());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrent() throws IOException {
+		File document = document(folder.getRoot(), 4);
+		CountDownLatch started = new CountDownLatch(4);
+		DelayingIncluder includer = new DelayingIncluder(() -> {
+			started.countDown();
+			try {
+				// only completes if all includes are loaded at the same time
+				started.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			HoconMapper mapper = new HoconMapper(new HoconFactory().setConfigIncluder(includer).setIncludeExecutor(executor));
+			Assert.assertEquals(3, mapper.readTree(document).get("last").asInt());
+			Assert.assertEquals(0, started.getCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testRejected() throws IOException {
+		File document = document(folder.getRoot(), 3);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		HoconMapper mapper = new HoconMapper(new HoconFactory().setIncludeExecutor(executor));
+		Assert.assertEquals(new HoconMapper().readTree(document), mapper.readTree(document));
+	}
+
+	@Test
+	public void testScanner() throws IOException {
+		File dir = folder.getRoot();
+		File first = new File(dir, "first.conf");
+		write(first, "first = 1");
+		write(new File(dir, "second.conf"), "second = 2");
+		write(new File(dir, "third.conf"), "third = 3");
+		File document = new File(dir, "document.conf");
+		write(document, "# include \"comment\"\n"
+				+ "// include \"comment2\"\n"
+				+ "a = \"include \\\"quoted\\\"\"\n"
+				+ "b = \"\"\"\ninclude \"triple\"\n\"\"\"\n"
+				+ "c = [ include \"inarray\" ]\n"
+				+ "include required(file(\"" + first.getPath().replace("\\", "\\\\") + "\"))\n"
+				+ "include classpath( \"second\" )\n"
+				+ "include\n  \"third\"\n");
+
+		// the classpath include is only found through the class loader of the parsing thread
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		RecordingIncluder includer = new RecordingIncluder(thread);
+		Executor executor = task -> {
+			Thread other = new Thread(task);
+			other.setContextClassLoader(new URLClassLoader(new URL[0], null));
+			other.start();
+			try {
+				other.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toURI().toURL()}, previous)) {
+			thread.setContextClassLoader(loader);
+			HoconMapper mapper = new HoconMapper(new HoconFactory().setConfigIncluder(includer).setIncludeExecutor(executor));
+			JsonNode node = mapper.readTree(document);
+			Assert.assertEquals(1, node.get("first").asInt());
+			Assert.assertEquals(2, node.get("second").asInt());
+			Assert.assertEquals(3, node.get("third").asInt());
+			Assert.assertEquals("include \"quoted\"", node.get("a").asText());
+
+			Assert.assertEquals(new HashSet<>(Arrays.asList("file:first.conf", "classpath:second", "third")), new HashSet<>(includer.loaded));
+			Assert.assertEquals(3, includer.loaded.size());
+			for (ClassLoader l : includer.loaders) {
+				Assert.assertSame(loader, l);
+			}
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.typesafe.config.ConfigException;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HoconReadValueAtTest {
+
+	private static final HoconMapper STREAMING = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+	private static final HoconMapper TREE = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+	private static final HoconMapper DIRECT = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER)).setDirectBinding(true);
+
+	private static final String DOCUMENT = "web { port = 80, hosts = [a, b] }\n"
+			+ "service {\n"
+			+ "  database { url = \"jdbc:h2:mem\", pool { size = 4 } }\n"
+			+ "  \"a.b\" = dotted\n"
+			+ "  replicas = [ { url = r1 }, { url = r2 } ]\n"
+			+ "  none = null\n"
+			+ "}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	public static class Pool {
+		public int size;
+	}
+
+	public static class Database {
+		public String url;
+		public Pool pool;
+	}
+
+	@Test
+	public void testReadValueAt() throws IOException {
+		File file = folder.newFile("app.conf");
+		Files.write(file.toPath(), DOCUMENT.getBytes(StandardCharsets.UTF_8));
+		for (HoconMapper mapper : Arrays.asList(STREAMING, TREE, DIRECT)) {
+			Database database = mapper.readValueAt(file, "service.database", Database.class);
+			Assert.assertEquals("jdbc:h2:mem", database.url);
+			Assert.assertEquals(4, database.pool.size);
+			Assert.assertEquals(4, (int) mapper.readValueAt(file.toPath(), "service.database.pool.size", Integer.class));
+			Assert.assertEquals("dotted", mapper.readValueAt(DOCUMENT, "service.\"a.b\"", String.class));
+			Assert.assertEquals("r2", mapper.readValueAt(DOCUMENT, JsonPointer.compile("/service/replicas/1/url"), String.class));
+			Assert.assertEquals(Arrays.asList("a", "b"), mapper.readValueAt(file.toURI().toURL(), "web.hosts", List.class));
+			Assert.assertEquals(2, mapper.readValueAt(DOCUMENT, JsonPointer.empty(), Map.class).size());
+			Assert.assertNull(mapper.readValueAt(DOCUMENT, "service.none", Database.class));
+
+			MismatchedInputException missing = Assert.assertThrows(MismatchedInputException.class, () -> mapper.readValueAt(file, "service.missing", Database.class));
+			Assert.assertTrue(missing.getMessage(), missing.getMessage().contains("/service/missing"));
+			Assert.assertEquals(Database.class, missing.getTargetType());
+			Assert.assertThrows(MismatchedInputException.class, () -> mapper.readValueAt(DOCUMENT, JsonPointer.compile("/web/hosts/2"), String.class));
+			Assert.assertThrows(MismatchedInputException.class, () -> mapper.readValueAt(DOCUMENT, "web.port.value", Integer.class));
+			Assert.assertThrows(ConfigException.BadPath.class, () -> mapper.readValueAt(DOCUMENT, "service..database", Database.class));
+		}
+
+		// substitutions are resolved before seeking
+		Assert.assertEquals(80, (int) TREE.readValueAt("port = 80, service { port = ${port} }", "service.port", Integer.class));
+	}
+}
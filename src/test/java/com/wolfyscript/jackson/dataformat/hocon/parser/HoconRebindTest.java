@@ -0,0 +1,144 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HoconRebindTest {
+
+	private static final HoconMapper MAPPER = new HoconMapper();
+
+	public static class Server {
+		public String host;
+		public int port;
+		public List<String> tags;
+	}
+
+	public static class Limits {
+		public final int max;
+
+		@JsonCreator
+		public Limits(@JsonProperty("max") int max) {
+			this.max = max;
+		}
+	}
+
+	@JsonIgnoreProperties("note")
+	public static class Group {
+		public Server leader;
+	}
+
+	public static class Cluster {
+		public Group group;
+	}
+
+	public static class App {
+		public String name;
+		private Server server;
+		public Map<String, Server> replicas;
+		public Limits limits;
+
+		public Server getServer() {
+			return server;
+		}
+
+		public void setServer(Server server) {
+			this.server = server;
+		}
+	}
+
+	private static ConfigObject parse(String content) {
+		return ConfigFactory.parseString(content).root();
+	}
+
+	private static final String BASE = "name = app\n"
+			+ "server { host = localhost, port = 80, tags = [a, b] }\n"
+			+ "replicas { r1 { host = one, port = 1 }, r2 { host = two, port = 2 } }\n"
+			+ "limits { max = 10 }";
+
+	@Test
+	public void testRebind() throws IOException {
+		ConfigObject oldRoot = parse(BASE);
+		App app = MAPPER.readValue(new HoconTreeTraversingParser(oldRoot, MAPPER), App.class);
+		Server server = app.getServer();
+		Server r1 = app.replicas.get("r1");
+		Server r2 = app.replicas.get("r2");
+		Limits limits = app.limits;
+
+		ConfigObject newRoot = parse(BASE + "\nserver.port = 81\nserver.tags = [c]\nreplicas.r2.port = 22\nreplicas.r3 { host = three }\nlimits.max = 20");
+		Assert.assertSame(app, MAPPER.rebind(app, oldRoot, newRoot));
+		// objects are updated in place
+		Assert.assertSame(server, app.getServer());
+		Assert.assertEquals("localhost", server.host);
+		Assert.assertEquals(81, server.port);
+		// lists are replaced, not appended to
+		Assert.assertEquals(Collections.singletonList("c"), server.tags);
+		Assert.assertSame(r1, app.replicas.get("r1"));
+		Assert.assertSame(r2, app.replicas.get("r2"));
+		Assert.assertEquals(22, r2.port);
+		Assert.assertEquals("three", app.replicas.get("r3").host);
+		Assert.assertEquals(Server.class, app.replicas.get("r3").getClass());
+		// immutable values are bound again
+		Assert.assertNotSame(limits, app.limits);
+		Assert.assertEquals(20, app.limits.max);
+
+		// removed keys bind the object again
+		ConfigObject removed = parse(BASE.replace("tags = [a, b]", ""));
+		Server previous = app.getServer();
+		Assert.assertSame(app, MAPPER.rebind(app, newRoot, removed));
+		Assert.assertNotSame(previous, app.getServer());
+		Assert.assertNull(app.getServer().tags);
+		Assert.assertEquals(80, app.getServer().port);
+		Assert.assertEquals(2, app.replicas.size());
+
+		App other = MAPPER.rebind(app, removed, parse("name = other"));
+		Assert.assertNotSame(app, other);
+		Assert.assertEquals("other", other.name);
+	}
+
+	@Test
+	public void testFailure() throws IOException {
+		ConfigObject oldRoot = parse(BASE);
+		App app = MAPPER.readValue(new HoconTreeTraversingParser(oldRoot, MAPPER), App.class);
+		Server server = app.getServer();
+		Server r2 = app.replicas.get("r2");
+
+		// the port of r2 can only be bound after the others are
+		ConfigObject newRoot = parse(BASE + "\nname = changed\nserver.port = 81\nreplicas.r1.host = uno\nreplicas.r2.port = invalid");
+		Assert.assertThrows(InvalidFormatException.class, () -> MAPPER.rebind(app, oldRoot, newRoot));
+		// nothing is updated
+		Assert.assertEquals("app", app.name);
+		Assert.assertSame(server, app.getServer());
+		Assert.assertEquals(80, server.port);
+		Assert.assertEquals("one", app.replicas.get("r1").host);
+		Assert.assertSame(r2, app.replicas.get("r2"));
+		Assert.assertEquals(2, r2.port);
+	}
+
+	@Test
+	public void testChildBoundAsWhole() throws IOException {
+		ConfigObject oldRoot = parse("group { leader { host = one, port = 1 }, note = a }");
+		Cluster cluster = MAPPER.readValue(new HoconTreeTraversingParser(oldRoot, MAPPER), Cluster.class);
+		Group group = cluster.group;
+		Server leader = group.leader;
+
+		// the group updates its leader before it reaches the ignored key and is bound again as a whole
+		ConfigObject newRoot = parse("group { leader { host = one, port = 2 }, note = b }");
+		Assert.assertSame(cluster, MAPPER.rebind(cluster, oldRoot, newRoot));
+		Assert.assertNotSame(group, cluster.group);
+		Assert.assertEquals(2, cluster.group.leader.port);
+		// the update of the leader that was dropped along with the group is not applied
+		Assert.assertEquals(1, leader.port);
+	}
+}
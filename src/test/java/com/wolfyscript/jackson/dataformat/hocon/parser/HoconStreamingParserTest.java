@@ -0,0 +1,264 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.typesafe.config.ConfigException;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconByteBufferParser;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconNonBlockingParser;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import com.wolfyscript.jackson.dataformat.hocon.HoconStreamingParser;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
+import com.wolfyscript.jackson.dataformat.hocon.HoconUTF8StreamParser;
+import java.io.ByteArrayInputStream;
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HoconStreamingParserTest {
+
+	private static final HoconMapper STREAMING = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+	private static final HoconMapper TREE = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+
+	static URL url(String name) {
+		return HoconStreamingParserTest.class.getResource(name);
+	}
+
+	private static String string(InputStream is) {
+		Scanner s = new Scanner(is).useDelimiter("\\A");
+		return s.hasNext() ? s.next() : "";
+	}
+
+	private static Class<?> parserType(String content) throws IOException {
+		try (JsonParser p = STREAMING.getFactory().createStreamingParser(content)) {
+			return p.getClass();
+		}
+	}
+
+	private static void assertStreamed(String content) throws IOException {
+		Assert.assertTrue(content, HoconStreamingParser.class.isAssignableFrom(parserType(content)));
+		JsonNode expected = TREE.readTree(content);
+		Assert.assertEquals(content, expected, STREAMING.readTree(content));
+
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		try (JsonParser p = STREAMING.getFactory().createStreamingParser(bytes)) {
+			Assert.assertEquals(content, HoconUTF8StreamParser.class, p.getClass());
+		}
+		Assert.assertEquals(content, expected, STREAMING.readTree(bytes));
+		Assert.assertEquals(content, expected, STREAMING.readTree(new ByteArrayInputStream(bytes)));
+	}
+
+	private static JsonParser parser(HoconFactory factory, String content) throws IOException {
+		return factory.isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) ? factory.createStreamingParser(content) : factory.createParser(content);
+	}
+
+	private static void assertUnsupported(String content) throws IOException {
+		Assert.assertThrows(content, JsonParseException.class, () -> STREAMING.readTree(content));
+		Assert.assertThrows(content, JsonParseException.class, () -> STREAMING.readTree(content.getBytes(StandardCharsets.UTF_8)));
+		try (JsonParser p = TREE.getFactory().createParser(content)) {
+			Assert.assertEquals(content, HoconTreeTraversingParser.class, p.getClass());
+		}
+	}
+
+	@Test
+	public void testSameAsTree() throws IOException {
+		try (InputStream in = url("test.conf").openStream()) {
+			assertStreamed(string(in));
+		}
+		Configuration c = STREAMING.readValue(url("test.conf"), Configuration.class);
+		HoconTreeTraversingParserTest.assertConf(c);
+	}
+
+	@Test
+	public void testSyntax() throws IOException {
+		assertStreamed("a = 1, b : 2\nc { d = [1, 2, 3,] }");
+		assertStreamed("{ \"quoted key\" = \"line\\nbreak \\u00e9\" }");
+		assertStreamed("a = [\n  1\n  2\n]\n// comment\n# comment\nb = {}");
+		assertStreamed("a = foo bar  baz, b = 1 2, c = \"x\" y, d = foo\"bar\"");
+		assertStreamed("a = \"\"\"multi\n\"line\" text\"\"\"\"\"");
+		assertStreamed("a = true, b = false, c = null, d = yes, e = on");
+		assertStreamed("a = 12, b = -3.5, c = 1e3, d = 3000000000, e = 99999999999999999999, f = 1.2.3, g = 0x10");
+		// too big for a double
+		assertStreamed("a = 1e400, b = -1e400");
+		assertStreamed("a = \"http://example.com\"/path, b = 10s, c = a-b_c");
+		assertStreamed("");
+	}
+
+	@Test
+	public void testUTF8() throws IOException {
+		assertStreamed("\uFEFFa = caf\u00e9\u00A0cr\u00e8me, \u00fcber = \"\u20ac \uD83D\uDE00\"\u2007\n\u3000b = \"\"\"\u00e9\"\"\"");
+
+		byte[] invalid = { 'a', ' ', '=', ' ', (byte) 0xC3, '(', ' ', 'b', 'c', 'd', 'e' };
+		try (JsonParser p = STREAMING.getFactory().createStreamingParser("a = b".getBytes(StandardCharsets.UTF_8))) {
+			Assert.assertEquals(HoconUTF8StreamParser.class, p.getClass());
+		}
+		ConfigException e = Assert.assertThrows(ConfigException.IO.class, () -> TREE.readTree(invalid));
+		Assert.assertTrue(e.getCause() instanceof CharConversionException);
+		// validated while scanning: in values, quoted and triple quoted strings, comments and at the end of input
+		Assert.assertThrows(JsonParseException.class, () -> STREAMING.readTree(invalid));
+		for (String prefix : new String[] { "a = x", "a = \"", "a = \"\"\"", "a = 1 # ", "a = 1\n" }) {
+			byte[] bytes = (prefix + "\u00e9").getBytes(StandardCharsets.UTF_8);
+			bytes[bytes.length - 1] = '(';
+			Assert.assertThrows(prefix, JsonParseException.class, () -> STREAMING.readTree(bytes));
+			byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+			Assert.assertThrows(prefix, JsonParseException.class, () -> STREAMING.readTree(truncated));
+		}
+	}
+
+	@Test
+	public void testMemoryMappedFiles() throws IOException, URISyntaxException {
+		HoconMapper mapper = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER).enable(HoconReadFeature.MEMORY_MAPPED_FILES));
+		Path path = Paths.get(url("test.conf").toURI());
+		try (JsonParser p = mapper.getFactory().createStreamingParser(path)) {
+			Assert.assertEquals(HoconByteBufferParser.class, p.getClass());
+		}
+		HoconTreeTraversingParserTest.assertConf(mapper.readValue(path, Configuration.class));
+		HoconTreeTraversingParserTest.assertConf(mapper.readValue(path.toFile(), Configuration.class));
+		// includes need the tree parser, which resolves them relative to the file
+		Path inclusion = Paths.get(url("test-inclusion.conf").toURI());
+		Assert.assertThrows(JsonParseException.class, () -> mapper.readValue(inclusion, Configuration.class));
+		HoconTreeTraversingParserTest.assertConf(TREE.readValue(inclusion, Configuration.class));
+	}
+
+	@Test
+	public void testTokens() throws IOException {
+		try (JsonParser p = STREAMING.getFactory().createStreamingParser("a = 1\nb = [2.5, text]")) {
+			Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+			Assert.assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+			Assert.assertEquals("a", p.getCurrentName());
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+			Assert.assertEquals(JsonParser.NumberType.INT, p.getNumberType());
+			Assert.assertEquals(1, p.getIntValue());
+			Assert.assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+			Assert.assertEquals(2, p.getCurrentLocation().getLineNr());
+			Assert.assertEquals(JsonToken.START_ARRAY, p.nextToken());
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_FLOAT, p.nextToken());
+			Assert.assertEquals(2.5, p.getDoubleValue(), 0.0);
+			Assert.assertEquals(JsonToken.VALUE_STRING, p.nextToken());
+			Assert.assertEquals("text", p.getText());
+			Assert.assertEquals(JsonToken.END_ARRAY, p.nextToken());
+			Assert.assertEquals(JsonToken.END_OBJECT, p.nextToken());
+			Assert.assertNull(p.nextToken());
+		}
+	}
+
+	private static List<String> tokens(byte[] content, int chunkSize) throws IOException {
+		List<String> tokens = new ArrayList<>();
+		try (JsonParser p = STREAMING.getFactory().createNonBlockingByteArrayParser()) {
+			Assert.assertEquals(HoconNonBlockingParser.class, p.getClass());
+			ByteArrayFeeder feeder = (ByteArrayFeeder) p.getNonBlockingInputFeeder();
+			int fed = 0;
+			JsonToken t;
+			while ((t = p.nextToken()) != null) {
+				if (t == JsonToken.NOT_AVAILABLE) {
+					Assert.assertTrue(feeder.needMoreInput());
+					if (fed < content.length) {
+						int end = Math.min(content.length, fed + chunkSize);
+						feeder.feedInput(content, fed, end);
+						fed = end;
+					} else {
+						feeder.endOfInput();
+					}
+				} else {
+					tokens.add(t + ":" + p.getText());
+				}
+			}
+		}
+		return tokens;
+	}
+
+	@Test
+	public void testNonBlocking() throws IOException {
+		byte[] content = ("# comment\na = 1, b : -2.5e3\nc { d = [true, null, 3000000000,] }\n"
+				+ "\"quoted key\" = \"line\\nbreak \\u00e9\", e = foo bar  baz // end\n"
+				+ "f = \"\"\"multi\n\"line\" text\"\"\"\"\", g = \"http://example.com\"/path\n"
+				+ "\u00fcber = \"\u20ac \uD83D\uDE00\"\u2007 caf\u00e9").getBytes(StandardCharsets.UTF_8);
+		List<String> expected = new ArrayList<>();
+		try (JsonParser p = STREAMING.getFactory().createStreamingParser(content)) {
+			Assert.assertEquals(HoconUTF8StreamParser.class, p.getClass());
+			JsonToken t;
+			while ((t = p.nextToken()) != null) {
+				expected.add(t + ":" + p.getText());
+			}
+		}
+		for (int chunkSize : new int[] { 1, 2, 3, 7, content.length }) {
+			Assert.assertEquals("chunks of " + chunkSize, expected, tokens(content, chunkSize));
+		}
+
+		Assert.assertThrows(JsonParseException.class, () -> tokens("a = 1, b = ${a}".getBytes(StandardCharsets.UTF_8), 4));
+		Assert.assertThrows(JsonParseException.class, () -> tokens("a = 1, a = 2".getBytes(StandardCharsets.UTF_8), 4));
+		Assert.assertThrows(JsonParseException.class, () -> tokens("a { b = 1".getBytes(StandardCharsets.UTF_8), 4));
+		Assert.assertThrows(JsonParseException.class, () -> tokens(new byte[] { 'a', '=', (byte) 0xC3 }, 1));
+	}
+
+	@Test
+	public void testUnsupported() throws IOException {
+		// the tree parser is the default, and always used by the factory's createParser methods
+		try (JsonParser p = new HoconMapper().getFactory().createParser("a = 1")) {
+			Assert.assertEquals(HoconTreeTraversingParser.class, p.getClass());
+		}
+		try (JsonParser p = STREAMING.getFactory().createParser("a = 1")) {
+			Assert.assertEquals(HoconTreeTraversingParser.class, p.getClass());
+		}
+		try (JsonParser p = STREAMING.getFactory().createParser("a = 1".getBytes(StandardCharsets.UTF_8))) {
+			Assert.assertEquals(HoconTreeTraversingParser.class, p.getClass());
+		}
+		assertUnsupported("a = 1, b = ${a}");
+		assertUnsupported("include \"other.conf\"\na = 1");
+		assertUnsupported("a.b = 1");
+		assertUnsupported("a = [1], a += 2");
+		assertUnsupported("a { b = 1 }, a { c = 2 }");
+		assertUnsupported("a = 1, a = 2");
+
+		Assert.assertEquals(2, TREE.readTree("a = 1, a = 2").get("a").asInt());
+		JsonNode merged = TREE.readTree("a { b = 1 }, a { c = 2 }");
+		Assert.assertEquals(1, merged.get("a").get("b").asInt());
+		Assert.assertEquals(2, merged.get("a").get("c").asInt());
+	}
+
+	@Test
+	public void testLocations() throws IOException {
+		String content = "a = 1\nb {\n  c = text\n}";
+		for (HoconMapper mapper : new HoconMapper[] { STREAMING, TREE }) {
+			try (JsonParser p = parser(mapper.getFactory(), content)) {
+				while (p.nextToken() != JsonToken.VALUE_STRING) { }
+				JsonLocation location = p.getTokenLocation();
+				Assert.assertEquals(3, location.getLineNr());
+				// created once per token
+				Assert.assertSame(location, p.getTokenLocation());
+				p.nextToken();
+				Assert.assertNotSame(location, p.getTokenLocation());
+			}
+
+			HoconFactory factory = mapper.getFactory().copy().disable(HoconReadFeature.TOKEN_LOCATIONS);
+			try (JsonParser p = parser(factory, content)) {
+				while (p.nextToken() != null) {
+					Assert.assertSame(JsonLocation.NA, p.getTokenLocation());
+					Assert.assertSame(JsonLocation.NA, p.getCurrentLocation());
+				}
+			}
+			// also per reader
+			try (JsonParser p = mapper.reader().without(HoconReadFeature.TOKEN_LOCATIONS).createParser(content)) {
+				p.nextToken();
+				Assert.assertSame(JsonLocation.NA, p.getTokenLocation());
+			}
+		}
+	}
+
+}
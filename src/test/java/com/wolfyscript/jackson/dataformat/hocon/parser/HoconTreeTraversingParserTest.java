@@ -1,14 +1,33 @@
 package com.wolfyscript.jackson.dataformat.hocon.parser;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
 import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconNodeCursor;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Scanner;
 import org.junit.Assert;
 import org.junit.Test;
@@ -91,6 +110,122 @@ public class HoconTreeTraversingParserTest {
 		Assert.assertEquals(0.0, c.value, .001);
 	}
 
+	private static JsonParser number(HoconMapper mapper, String text) throws IOException {
+		JsonParser p = new HoconTreeTraversingParser(ConfigFactory.parseString("n = " + text).root(), mapper);
+		Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+		Assert.assertEquals("n", p.nextFieldName());
+		p.nextToken();
+		return p;
+	}
+
+	@Test
+	public void testNumbers() throws IOException {
+		HoconMapper mapper = new HoconMapper();
+		try (JsonParser p = number(mapper, "7")) {
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.currentToken());
+			Assert.assertEquals(JsonParser.NumberType.INT, p.getNumberType());
+			Assert.assertEquals(7, p.getIntValue());
+			Assert.assertEquals(BigDecimal.valueOf(7), p.getDecimalValue());
+			Assert.assertEquals(7, p.getNumberValue());
+		}
+		try (JsonParser p = number(mapper, "5000000000")) {
+			Assert.assertEquals(JsonParser.NumberType.LONG, p.getNumberType());
+			Assert.assertEquals(5000000000L, p.getLongValue());
+			Assert.assertThrows(InputCoercionException.class, p::getIntValue);
+		}
+		try (JsonParser p = number(mapper, "1e400")) {
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_FLOAT, p.currentToken());
+			Assert.assertEquals(JsonParser.NumberType.BIG_DECIMAL, p.getNumberType());
+			Assert.assertEquals(new BigDecimal("1e400"), p.getNumberValue());
+			Assert.assertEquals(new BigDecimal("1e400").toBigInteger(), p.getBigIntegerValue());
+			Assert.assertEquals("1e400", p.getText());
+			Assert.assertThrows(InputCoercionException.class, p::getLongValue);
+		}
+		try (JsonParser p = number(mapper, "19.99")) {
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_FLOAT, p.currentToken());
+			Assert.assertEquals(JsonParser.NumberType.DOUBLE, p.getNumberType());
+			Assert.assertEquals(19.99, p.getDoubleValue(), 0);
+			Assert.assertEquals(new BigDecimal("19.99"), p.getDecimalValue());
+			Assert.assertEquals(new BigDecimal("19.99"), p.getNumberValueExact());
+			// converted once per node
+			Assert.assertSame(p.getDecimalValue(), p.getDecimalValue());
+			Assert.assertEquals(19.99, p.getNumberValue());
+		}
+		try (JsonParser p = number(mapper, "1.10")) {
+			Assert.assertEquals("1.10", p.getText());
+			Assert.assertEquals(new BigDecimal("1.10"), p.getDecimalValue());
+		}
+		try (JsonParser p = number(mapper, "1.0")) {
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.currentToken());
+			Assert.assertEquals(new BigDecimal("1.0"), p.getDecimalValue());
+		}
+		try (JsonParser p = number(mapper, "1e3")) {
+			Assert.assertEquals(new BigDecimal("1e3"), p.getDecimalValue());
+			Assert.assertEquals(BigInteger.valueOf(1000), p.getBigIntegerValue());
+		}
+
+		Map<String, BigDecimal> prices = mapper.readValue("a = 0.1, b = 2.675", new TypeReference<Map<String, BigDecimal>>() {});
+		Assert.assertEquals(new BigDecimal("0.1"), prices.get("a"));
+		Assert.assertEquals(new BigDecimal("2.675"), prices.get("b"));
+	}
+
+	@Test
+	public void testTextCharacters() throws IOException {
+		HoconMapper mapper = new HoconMapper();
+		StringBuilder large = new StringBuilder();
+		for (int i = 0; i < 500; ++i) {
+			large.append(i % 10);
+		}
+		ConfigObject root = ConfigFactory.parseString("small = abc, large = \"" + large + "\"").root();
+		try (JsonParser p = new HoconTreeTraversingParser(root, mapper)) {
+			char[] buffer = null;
+			for (JsonToken t = p.nextToken(); t != null; t = p.nextToken()) {
+				if (t == JsonToken.VALUE_STRING || t == JsonToken.FIELD_NAME) {
+					Assert.assertTrue(p.hasTextCharacters());
+					char[] chars = p.getTextCharacters();
+					Assert.assertEquals(p.getText(), new String(chars, p.getTextOffset(), p.getTextLength()));
+					// repeated calls do not copy again
+					Assert.assertSame(chars, p.getTextCharacters());
+					if (buffer != null && p.getTextLength() <= buffer.length) {
+						Assert.assertSame(buffer, chars);
+					}
+					buffer = chars;
+				}
+			}
+		}
+
+		// copying events uses the characters
+		StringWriter json = new StringWriter();
+		try (JsonParser p = new HoconTreeTraversingParser(root, mapper); JsonGenerator g = new ObjectMapper().createGenerator(json)) {
+			while (p.nextToken() != null) {
+				g.copyCurrentEvent(p);
+			}
+		}
+		Assert.assertEquals(root.unwrapped(), new ObjectMapper().readValue(json.toString(), Map.class));
+	}
+
+	@Test
+	public void testStripOrigins() throws IOException {
+		HoconMapper mapper = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER).enable(HoconReadFeature.STRIP_ORIGINS));
+		Configuration c = mapper.readValue(url("test.conf"), Configuration.class);
+		assertConf(c);
+
+		String content = "# comment\na = 1\nb {\n  c = [x, 2.5]\n}";
+		ConfigObject root = ConfigFactory.parseString(content).resolve().root();
+		ConfigObject stripped = HoconFactory.stripOrigins(root);
+		Assert.assertEquals(root, stripped);
+		Assert.assertTrue(stripped.get("a").origin().comments().isEmpty());
+		Assert.assertSame(stripped.origin(), ((ConfigObject) stripped.get("b")).get("c").origin());
+
+		try (JsonParser p = mapper.getFactory().createParser(content)) {
+			Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+			Assert.assertEquals("a", p.nextFieldName());
+			p.nextToken();
+			Assert.assertEquals(-1, p.getTokenLocation().getLineNr());
+		}
+		Assert.assertEquals(mapper.readTree(content), new HoconMapper().readTree(content));
+	}
+
 	public void testCurrentValue() {
 
 
@@ -98,4 +233,163 @@ public class HoconTreeTraversingParserTest {
 
 	}
 
+	@Test
+	public void testContainerSize() throws IOException {
+		HoconMapper mapper = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+		try (JsonParser p = mapper.createParser("a = [1, 2, 3], b { c = {} }")) {
+			HoconTreeTraversingParser parser = (HoconTreeTraversingParser) p;
+			Assert.assertEquals(-1, parser.getContainerSize());
+			Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+			Assert.assertEquals(2, parser.getContainerSize());
+			Assert.assertEquals("a", p.nextFieldName());
+			Assert.assertEquals(2, parser.getContainerSize());
+			Assert.assertEquals(JsonToken.START_ARRAY, p.nextToken());
+			Assert.assertEquals(3, parser.getContainerSize());
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+			Assert.assertEquals(3, HoconTreeTraversingParser.containerSize(p));
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+			Assert.assertEquals(JsonToken.END_ARRAY, p.nextToken());
+			Assert.assertEquals(2, parser.getContainerSize());
+			Assert.assertEquals("b", p.nextFieldName());
+			Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+			Assert.assertEquals(1, parser.getContainerSize());
+			Assert.assertEquals("c", p.nextFieldName());
+			Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+			Assert.assertEquals(0, parser.getContainerSize());
+		}
+		Assert.assertEquals(-1, HoconTreeTraversingParser.containerSize(new HoconMapper().createParser("a = [1]")));
+
+		// the collections and arrays are created in their size, and hold the same values
+		String document = "list = [1, 2, 3], set = [a, b, a], map { x = 1, y = 2 }, ints = [4, 5], indexed { 1 = 7, 0 = 6 }";
+		Map<String, Object> values = mapper.readValue(document, new TypeReference<Map<String, Object>>() {});
+		Assert.assertEquals(Arrays.asList(1, 2, 3), values.get("list"));
+		Containers containers = mapper.readValue(document, Containers.class);
+		Assert.assertEquals(Arrays.asList(1, 2, 3), containers.list);
+		Assert.assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b")), containers.set);
+		Assert.assertEquals(2, (int) containers.map.get("y"));
+		Assert.assertArrayEquals(new int[] { 4, 5 }, containers.ints);
+		Assert.assertArrayEquals(new long[] { 6, 7 }, containers.indexed);
+	}
+
+	public static class Containers {
+		public List<Integer> list;
+		public Set<String> set;
+		public HashMap<String, Integer> map;
+		public int[] ints;
+		public long[] indexed;
+	}
+
+	public static class Tables {
+		public int[] ints;
+		public long[] longs;
+		public double[] doubles;
+		public float[] floats;
+		public short[] shorts;
+		public byte[] bytes;
+		public boolean[] flags;
+		public int[][] nested;
+		public String after;
+	}
+
+	@Test
+	public void testBulkArrays() throws IOException {
+		HoconMapper streaming = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+		HoconMapper tree = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+		// the tree reads each array at once, unless an element needs converting; the values are the same as streaming them
+		for (String document : Arrays.asList(
+				"ints = [1, -2, 2147483647], longs = [1, 9007199254740993], doubles = [1, 0.1, 1e300, 2.5], floats = [1, 0.1],"
+						+ " shorts = [-32768, 32767], bytes = [-128, 255], flags = [true, false], nested = [[1], [], [2, 3]], after = done",
+				"ints = [1, \"2\"], longs = [1, null], doubles = [\"1.5\"], floats = [null], shorts = [1, \"2\"], bytes = [\"1\"],"
+						+ " flags = [true, \"false\"], nested = [[1, \"2\"]], after = done")) {
+			Tables expected = streaming.readValue(document, Tables.class);
+			Tables actual = tree.readValue(document, Tables.class);
+			Assert.assertArrayEquals(expected.ints, actual.ints);
+			Assert.assertArrayEquals(expected.longs, actual.longs);
+			Assert.assertArrayEquals(expected.doubles, actual.doubles, 0);
+			Assert.assertArrayEquals(expected.floats, actual.floats, 0);
+			Assert.assertArrayEquals(expected.shorts, actual.shorts);
+			Assert.assertArrayEquals(expected.bytes, actual.bytes);
+			Assert.assertArrayEquals(expected.flags, actual.flags);
+			Assert.assertArrayEquals(expected.nested, actual.nested);
+			Assert.assertEquals("done", actual.after);
+		}
+		Assert.assertArrayEquals(new long[] { 1, 9007199254740993L }, tree.readValue("longs = [1, 9007199254740993]", Tables.class).longs);
+
+		// elements that do not fit fail the same way
+		Assert.assertArrayEquals(new int[] { 1 }, tree.readValue("ints = [1.5]", Tables.class).ints);
+		for (String document : Arrays.asList("ints = [1, 2147483648]", "shorts = [32768]", "bytes = [256]")) {
+			Assert.assertThrows(document, IOException.class, () -> tree.readValue(document, Tables.class));
+		}
+
+		try (JsonParser p = tree.createParser("a = [1, 2]")) {
+			HoconTreeTraversingParser parser = (HoconTreeTraversingParser) p;
+			Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+			Assert.assertNull(parser.getCurrentList());
+			Assert.assertEquals("a", p.nextFieldName());
+			Assert.assertEquals(JsonToken.START_ARRAY, p.nextToken());
+			Assert.assertEquals(2, parser.getCurrentList().size());
+			Assert.assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+			Assert.assertNull(parser.getCurrentList());
+		}
+	}
+	@Test
+	public void testReset() throws IOException {
+		HoconMapper mapper = new HoconMapper();
+		// deeper than the initial cursor stack, with arrays and objects of the same depth
+		StringBuilder deep = new StringBuilder("a = ");
+		for (int i = 0; i < 12; ++i) {
+			deep.append(i % 2 == 0 ? "[1, { b = x }, " : "{ c = [], d = ");
+		}
+		deep.append("end");
+		for (int i = 11; i >= 0; --i) {
+			deep.append(i % 2 == 0 ? ", [2, 3]]" : ", e = {} }");
+		}
+		ConfigObject first = ConfigFactory.parseString(deep.toString()).root();
+		ConfigObject second = ConfigFactory.parseString("x { y = [ { z = 1 }, { z = 2 } ], w = [[true]] }").root();
+
+		HoconTreeTraversingParser p = new HoconTreeTraversingParser(first, mapper);
+		Assert.assertEquals(first.unwrapped(), mapper.readValue(p, Map.class));
+		Assert.assertSame(p, p.reset(second));
+		Assert.assertSame(second, p.getConfigObject());
+		Assert.assertNull(p.currentToken());
+		Assert.assertEquals(second.unwrapped(), mapper.readValue(p, Map.class));
+		// again, from a half read parser
+		p.reset(first);
+		Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+		Assert.assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+		Assert.assertEquals(first.unwrapped(), mapper.readValue(p.reset(first), Map.class));
+
+		// the contexts of the reused cursors start over
+		p.reset(second);
+		Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+		Assert.assertEquals("x", p.nextFieldName());
+		while (p.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+		}
+		Assert.assertEquals("/x/y/0/z", p.getParsingContext().pathAsPointer().toString());
+		Assert.assertEquals(4, ((HoconNodeCursor) p.getParsingContext()).getDepth());
+		while (p.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+		}
+		Assert.assertEquals("/x/y/1/z", p.getParsingContext().pathAsPointer().toString());
+		Assert.assertNull(p.getParsingContext().getCurrentValue());
+
+		// closed parsers are reused as well, and sub values are read as the root
+		p.close();
+		Assert.assertTrue(p.isClosed());
+		p.reset(second, second.toConfig().getValue("x.w"));
+		Assert.assertFalse(p.isClosed());
+		Assert.assertEquals(Arrays.asList(Arrays.asList(true)), mapper.readValue(p, List.class));
+
+		// so is the text buffer
+		p.reset(second);
+		p.nextToken();
+		Assert.assertEquals("x", p.nextFieldName());
+		char[] buffer = p.getTextCharacters();
+		p.close();
+		p.reset(second);
+		p.nextToken();
+		Assert.assertEquals("x", p.nextFieldName());
+		Assert.assertSame(buffer, p.getTextCharacters());
+		Assert.assertEquals("x", new String(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+	}
 }
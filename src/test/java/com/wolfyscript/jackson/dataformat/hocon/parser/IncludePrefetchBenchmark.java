@@ -0,0 +1,72 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Compares loading the includes of a document one after another with loading them on an include executor.
+ * Slow storage is simulated by delaying every include.<br>
+ * <br>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.wolfyscript.jackson.dataformat.hocon.parser.IncludePrefetchBenchmark}
+ * <br>
+ * Arguments (optional): number of includes (default 40), delay per include in ms (default 5), executor threads (default 8).
+ */
+public class IncludePrefetchBenchmark {
+
+	private static final int ROUNDS = 20;
+
+	public static void main(String[] args) throws IOException {
+		int includes = (args.length > 0) ? Integer.parseInt(args[0]) : 40;
+		long delay = (args.length > 1) ? Long.parseLong(args[1]) : 5;
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) : 8;
+
+		File dir = Files.createTempDirectory("include-benchmark").toFile();
+		File document = HoconPrefetchingIncluderTest.document(dir, includes);
+		HoconPrefetchingIncluderTest.DelayingIncluder includer = new HoconPrefetchingIncluderTest.DelayingIncluder(() -> {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			HoconMapper serial = new HoconMapper(new HoconFactory().setConfigIncluder(includer));
+			HoconMapper prefetching = new HoconMapper(new HoconFactory().setConfigIncluder(includer).setIncludeExecutor(executor));
+			long serialMillis = median(serial, document);
+			long prefetchingMillis = median(prefetching, document);
+			System.out.printf("%d includes, %d ms delay each, %d threads%n", includes, delay, threads);
+			System.out.printf("serial:      %5d ms (median of %d)%n", serialMillis, ROUNDS);
+			System.out.printf("prefetching: %5d ms (median of %d)%n", prefetchingMillis, ROUNDS);
+			System.out.printf("speedup:     %5.1fx%n", serialMillis / (double) Math.max(1, prefetchingMillis));
+		} finally {
+			executor.shutdownNow();
+			for (File f : dir.listFiles()) {
+				f.delete();
+			}
+			dir.delete();
+		}
+	}
+
+	private static long median(HoconMapper mapper, File document) throws IOException {
+		// warm up
+		for (int i = 0; i < 3; ++i) {
+			mapper.readTree(document);
+		}
+		long[] times = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; ++i) {
+			long start = System.nanoTime();
+			mapper.readTree(document);
+			times[i] = (System.nanoTime() - start) / 1_000_000;
+		}
+		Arrays.sort(times);
+		return times[ROUNDS / 2];
+	}
+}
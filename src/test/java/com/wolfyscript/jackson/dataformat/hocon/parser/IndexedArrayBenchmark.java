@@ -0,0 +1,81 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures binding numerically indexed objects (like {@code { 0 = 1, 1 = 2 }}) to primitive arrays, with the keys
+ * in order and shuffled, compared with binding a plain array of the same values.<br>
+ * The documents are read with a JSON parser, which keeps the keys in document order (unlike Config objects) and is
+ * cheap compared to the binding that is measured.<br>
+ * <br>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.wolfyscript.jackson.dataformat.hocon.parser.IndexedArrayBenchmark}
+ * <br>
+ * Arguments (optional): number of elements (default 100000).
+ */
+public class IndexedArrayBenchmark {
+
+	private static final int ROUNDS = 30;
+
+	public static void main(String[] args) throws IOException {
+		int elements = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000;
+		List<Integer> indexes = new ArrayList<>();
+		for (int i = 0; i < elements; ++i) {
+			indexes.add(i);
+		}
+		byte[] ordered = document(indexes);
+		Collections.shuffle(indexes, new Random(42));
+		byte[] shuffled = document(indexes);
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < elements; ++i) {
+			sb.append((i > 0) ? "," : "").append(i * 7);
+		}
+		byte[] array = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+		HoconMapper mapper = new HoconMapper();
+		// 100k distinct keys would otherwise mostly measure the interning of the keys
+		JsonFactory json = JsonFactory.builder().disable(JsonFactory.Feature.INTERN_FIELD_NAMES).disable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES).build();
+		System.out.printf("%d elements, median of %d rounds%n", elements, ROUNDS);
+		for (Class<?> type : Arrays.asList(int[].class, long[].class, double[].class)) {
+			long plain = median(() -> mapper.readValue(json.createParser(array), type));
+			long inOrder = median(() -> mapper.readValue(json.createParser(ordered), type));
+			long outOfOrder = median(() -> mapper.readValue(json.createParser(shuffled), type));
+			System.out.printf("%-10s array: %7d us, ordered keys: %7d us, shuffled keys: %7d us%n", type.getSimpleName(), plain, inOrder, outOfOrder);
+		}
+	}
+
+	private static byte[] document(List<Integer> indexes) {
+		StringBuilder sb = new StringBuilder("{");
+		for (int index : indexes) {
+			sb.append((sb.length() > 1) ? "," : "").append('"').append(index).append("\":").append(index * 7);
+		}
+		return sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private interface Read {
+		void run() throws IOException;
+	}
+
+	private static long median(Read read) throws IOException {
+		// warm up
+		for (int i = 0; i < 20; ++i) {
+			read.run();
+		}
+		long[] times = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; ++i) {
+			long start = System.nanoTime();
+			read.run();
+			times[i] = (System.nanoTime() - start) / 1_000;
+		}
+		Arrays.sort(times);
+		return times[ROUNDS / 2];
+	}
+}
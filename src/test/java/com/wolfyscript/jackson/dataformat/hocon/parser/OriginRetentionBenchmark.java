@@ -0,0 +1,78 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the heap retained by resolved Config trees with and without their origins
+ * (see {@link com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature#STRIP_ORIGINS}).<br>
+ * <br>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.wolfyscript.jackson.dataformat.hocon.parser.OriginRetentionBenchmark}
+ * <br>
+ * Arguments (optional): number of entries per document (default 20000), documents retained (default 10).
+ */
+public class OriginRetentionBenchmark {
+
+	public static void main(String[] args) {
+		int entries = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+		int copies = (args.length > 1) ? Integer.parseInt(args[1]) : 10;
+		String document = document(entries);
+
+		long withOrigins = retained(document, copies, false);
+		long withoutOrigins = retained(document, copies, true);
+		System.out.printf("%d entries (%d KB of text), %d documents retained%n", entries, document.length() / 1024, copies);
+		System.out.printf("with origins:    %6d KB per document%n", withOrigins / copies / 1024);
+		System.out.printf("without origins: %6d KB per document%n", withoutOrigins / copies / 1024);
+		System.out.printf("reduction:       %6.1f%%%n", 100.0 * (withOrigins - withoutOrigins) / withOrigins);
+	}
+
+	/**
+	 * Resembles a typical application config: nested sections with comments, strings, numbers and lists.
+	 */
+	static String document(int entries) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < entries / 10; ++i) {
+			sb.append("# settings of service ").append(i).append('\n');
+			sb.append("service-").append(i).append(" {\n");
+			sb.append("  // the host name\n  host = \"host-").append(i).append(".example.com\"\n");
+			sb.append("  port = ").append(8000 + i).append('\n');
+			sb.append("  timeout = ").append(i % 7).append(".5\n");
+			sb.append("  enabled = ").append(i % 2 == 0).append('\n');
+			sb.append("  tags = [a, b, c]\n");
+			sb.append("  limits { max = ").append(i).append(", min = 0 }\n");
+			sb.append("}\n");
+		}
+		return sb.toString();
+	}
+
+	private static long retained(String document, int copies, boolean strip) {
+		List<ConfigObject> roots = new ArrayList<>(copies);
+		long before = usedHeap();
+		for (int i = 0; i < copies; ++i) {
+			ConfigObject root = ConfigFactory.parseString(document).resolve().root();
+			roots.add(strip ? HoconFactory.stripOrigins(root) : root);
+		}
+		long retained = usedHeap() - before;
+		if (roots.size() != copies) {
+			throw new IllegalStateException();
+		}
+		return retained;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; ++i) {
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
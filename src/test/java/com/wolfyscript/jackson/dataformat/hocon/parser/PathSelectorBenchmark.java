@@ -0,0 +1,73 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconPathSelector;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares reading many paths of a document one at a time (see {@link HoconMapper#readValueAt(String, String, Class)})
+ * with reading them in a single pass (see {@link HoconMapper#readValuesAt(String, HoconPathSelector)}).<br>
+ * <br>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.wolfyscript.jackson.dataformat.hocon.parser.PathSelectorBenchmark}
+ * <br>
+ * Arguments (optional): number of sections in the document (default 500), number of selected paths (default 40).
+ */
+public class PathSelectorBenchmark {
+
+	private static final int ROUNDS = 30;
+
+	public static void main(String[] args) throws IOException {
+		int sections = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+		int selected = (args.length > 1) ? Integer.parseInt(args[1]) : 40;
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < sections; ++i) {
+			sb.append("section-").append(i).append(" { host = \"host-").append(i).append("\", port = ").append(8000 + i)
+					.append(", tags = [a, b, c], limits { max = ").append(i).append(", min = 0 } }\n");
+		}
+		String document = sb.toString();
+		List<String> paths = new ArrayList<>();
+		HoconPathSelector selector = new HoconPathSelector();
+		for (int i = 0; i < selected; ++i) {
+			String path = "section-" + (i * sections / selected) + ".limits.max";
+			paths.add(path);
+			selector.select(path, Integer.class);
+		}
+
+		System.out.printf("%d sections, %d paths, median of %d rounds%n", sections, selected, ROUNDS);
+		for (HoconMapper mapper : Arrays.asList(new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER)), new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER)))) {
+			String name = mapper.getFactory().isEnabled(HoconReadFeature.STRICT_STREAMING_PARSER) ? "streaming" : "tree";
+			long each = median(() -> {
+				for (String path : paths) {
+					mapper.readValueAt(document, path, Integer.class);
+				}
+			});
+			long single = median(() -> mapper.readValuesAt(document, selector));
+			System.out.printf("%-10s each path: %7d us, single pass: %7d us, speedup: %5.2fx%n", name, each, single, each / (double) Math.max(1, single));
+		}
+	}
+
+	private interface Read {
+		void run() throws IOException;
+	}
+
+	private static long median(Read read) throws IOException {
+		// warm up
+		for (int i = 0; i < 20; ++i) {
+			read.run();
+		}
+		long[] times = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; ++i) {
+			long start = System.nanoTime();
+			read.run();
+			times[i] = (System.nanoTime() - start) / 1_000;
+		}
+		Arrays.sort(times);
+		return times[ROUNDS / 2];
+	}
+}
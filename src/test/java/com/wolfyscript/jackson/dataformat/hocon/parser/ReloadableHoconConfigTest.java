@@ -0,0 +1,116 @@
+package com.wolfyscript.jackson.dataformat.hocon.parser;
+
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigObject;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.ReloadableHoconConfig;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ReloadableHoconConfigTest {
+
+	private static final HoconMapper MAPPER = new HoconMapper();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path write(String name, String content) throws IOException {
+		Path path = folder.getRoot().toPath().resolve(name);
+		Files.createDirectories(path.getParent());
+		// replaced at once, so the watcher never reads a truncated file
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return path;
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		// WatchService implementations may poll, so this can take a few seconds
+		long end = System.currentTimeMillis() + 30_000;
+		while (!condition.getAsBoolean()) {
+			Assert.assertTrue("timed out", System.currentTimeMillis() < end);
+			Thread.sleep(20);
+		}
+	}
+
+	@Test
+	public void testReload() throws IOException, InterruptedException {
+		write("sub/nested.conf", "nested = 1");
+		write("sub/base.conf", "include \"nested.conf\"\nbase = 1");
+		Path path = write("app.conf", "include \"sub/base.conf\"\ninclude \"optional\"\napp = 1");
+		try (ReloadableHoconConfig<Map> config = new ReloadableHoconConfig<>(MAPPER, path, Map.class)) {
+			Map first = config.get();
+			Assert.assertEquals(1, first.get("app"));
+			Assert.assertEquals(1, first.get("nested"));
+
+			// transitive include
+			write("sub/nested.conf", "nested = 22");
+			await(() -> Integer.valueOf(22).equals(config.get().get("nested")));
+			Assert.assertEquals(1, config.getReloadCount());
+			// the previous value is left untouched
+			Assert.assertEquals(1, first.get("nested"));
+
+			// missing include that is created
+			write("optional.conf", "optional = true");
+			await(() -> Boolean.TRUE.equals(config.get().get("optional")));
+
+			// invalid content keeps the current value
+			Map current = config.get();
+			write("app.conf", "include \"sub/base.conf\"\napp = [");
+			await(() -> config.getLastError() != null);
+			Assert.assertSame(current, config.get());
+
+			write("app.conf", "app = 3");
+			await(() -> Integer.valueOf(3).equals(config.get().get("app")));
+			Assert.assertNull(config.getLastError());
+			Assert.assertFalse(config.reload());
+		}
+	}
+
+	@Test
+	public void testChangedWhileParsing() throws IOException {
+		Path nested = write("nested.conf", "nested = 1");
+		Path path = write("app.conf", "include \"nested.conf\"");
+		AtomicBoolean changed = new AtomicBoolean();
+		ConfigIncluder includer = new ConfigIncluder() {
+			@Override
+			public ConfigIncluder withFallback(ConfigIncluder fallback) {
+				return this;
+			}
+
+			@Override
+			public ConfigObject include(ConfigIncludeContext context, String what) {
+				ConfigObject included = context.relativeTo(what).parse(context.parseOptions());
+				if (changed.compareAndSet(false, true)) {
+					// changed after it is read, but before the document is resolved and bound
+					try {
+						Files.write(nested, "nested = 22".getBytes(StandardCharsets.UTF_8));
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				return included;
+			}
+		};
+		HoconMapper mapper = new HoconMapper(new HoconFactory().setConfigIncluder(includer));
+		try (ReloadableHoconConfig<Map> config = new ReloadableHoconConfig<>(mapper, path, Map.class)) {
+			Assert.assertEquals(1, config.get().get("nested"));
+			// the include was stamped before it was read, so the change is noticed
+			config.reload();
+			Assert.assertEquals(22, config.get().get("nested"));
+		}
+	}
+}
@@ -1,8 +1,17 @@
 package com.wolfyscript.jackson.dataformat.hocon.parser.numerically_indexed_objs;
 
+import com.fasterxml.jackson.annotation.JsonMerge;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.wolfyscript.jackson.dataformat.hocon.HoconFactory;
+import com.wolfyscript.jackson.dataformat.hocon.HoconIndexedObjectParser;
 import com.wolfyscript.jackson.dataformat.hocon.HoconMapper;
+import com.wolfyscript.jackson.dataformat.hocon.HoconReadFeature;
+import com.wolfyscript.jackson.dataformat.hocon.HoconTreeTraversingParser;
 import com.wolfyscript.jackson.dataformat.hocon.parser.Configuration;
 import java.io.IOException;
 import java.io.InputStream;
@@ -10,10 +19,16 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Scanner;
+import java.util.Set;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Assert;
@@ -133,6 +148,155 @@ public class NumericallyIndexedObjectsTest {
         Assert.assertThrows(InvalidFormatException.class, () -> mapper.readValue("{ 0 = true, 1 = test, 2 = 0, 3 = 0.7, 4 = f }", int[].class));
     }
 
+    @Test
+    public void testLargeIntArrays() throws IOException {
+        HoconMapper mapper = new HoconMapper();
+        int[] expected = new int[1000];
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < expected.length; ++i) {
+            expected[i] = i * 3;
+            indexes.add(i);
+        }
+        Assert.assertArrayEquals(expected, mapper.readValue(indexedObject(indexes, 3), int[].class));
+        Collections.shuffle(indexes, new Random(42));
+        Assert.assertArrayEquals(expected, mapper.readValue(indexedObject(indexes, 3), int[].class));
+        Assert.assertArrayEquals(new long[]{ 9, 7 }, mapper.readValue("{ 7 = 7, 3 = 9 }", long[].class));
+
+        // duplicate keys are merged by HOCON, but other parsers pass them on; the last value wins
+        JsonParser p = new JsonFactory().createParser("{ \"1\": 2, \"0\": 1, \"1\": 3 }");
+        Assert.assertArrayEquals(new int[]{ 1, 3 }, mapper.readValue(p, int[].class));
+        p = new JsonFactory().createParser("{ \"0\": 1, \"0\": 3 }");
+        Assert.assertArrayEquals(new double[]{ 3 }, mapper.readValue(p, double[].class), 0d);
+    }
+
+    @Test
+    public void testOrderedEntries() throws IOException {
+        HoconMapper streaming = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+        HoconMapper tree = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+        List<Integer> indexes = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            indexes.add(i);
+            expected.add(i * 3);
+        }
+        Collections.shuffle(indexes, new Random(7));
+        String document = indexedObject(indexes, 3);
+        for (HoconMapper mapper : Arrays.asList(streaming, tree)) {
+            Assert.assertEquals(expected, mapper.readValue(document, new TypeReference<List<Integer>>() {}));
+            Assert.assertArrayEquals(expected.toArray(new Integer[0]), mapper.readValue(document, Integer[].class));
+            Assert.assertEquals(expected.get(999).toString(), mapper.readValue(document, String[].class)[999]);
+            Assert.assertEquals(expected.get(500).toString(), mapper.readValue(document, new TypeReference<List<String>>() {}).get(500));
+            Assert.assertEquals(2997, mapper.readValue(document, int[].class)[999]);
+
+            // keys that are no index are skipped, including their objects
+            String mixed = "{ \"+2\" = y, x { a = 1 }, 01 = b, \"-1\" = y, 0 = a, 2147483648 = z, 2 = c, \"-0\" = y }";
+            Assert.assertEquals(Arrays.asList("a", "b", "c"), mapper.readValue(mixed, new TypeReference<List<String>>() {}));
+            Assert.assertArrayEquals(new String[]{ "a", "b", "c" }, mapper.readValue(mixed, String[].class));
+            Assert.assertArrayEquals(new Object[]{ "a", "b", "c" }, mapper.readValue(mixed, Object[].class));
+
+            // invalid values are reported with their key, whether the entries are ordered or not
+            MismatchedInputException e = Assert.assertThrows(MismatchedInputException.class,
+                    () -> mapper.readValue("{ 0 = a, 1 { x = 1 } }", String[].class));
+            Assert.assertEquals("1", e.getPath().get(0).getFieldName());
+        }
+
+        try (JsonParser p = tree.createParser("{ b = 1, 10 = 2, 9 = 3 }")) {
+            Assert.assertFalse(((HoconIndexedObjectParser) p).orderIndexedEntries());
+            Assert.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            Assert.assertEquals(3, HoconTreeTraversingParser.containerSize(p));
+            Assert.assertTrue(((HoconIndexedObjectParser) p).orderIndexedEntries());
+            // only the index keys are left
+            Assert.assertEquals(2, HoconTreeTraversingParser.containerSize(p));
+            Assert.assertEquals("9", p.nextFieldName());
+            Assert.assertEquals(3, p.nextIntValue(-1));
+            Assert.assertEquals("10", p.nextFieldName());
+            Assert.assertEquals(2, p.nextIntValue(-1));
+            Assert.assertNull(p.nextFieldName());
+            Assert.assertEquals(JsonToken.END_OBJECT, p.currentToken());
+        }
+        try (JsonParser p = tree.createParser("{ 1 = a, 01 = b, x = c }")) {
+            p.nextToken();
+            Assert.assertTrue(((HoconIndexedObjectParser) p).orderIndexedEntries());
+            Assert.assertEquals(1, HoconTreeTraversingParser.containerSize(p));
+        }
+        Assert.assertArrayEquals(new int[]{ 5, 6 }, tree.readValue("{ x = 1, 1 = 6, y = 2, 0 = 5 }", int[].class));
+    }
+
+    public static class Overrides {
+        @JsonMerge
+        public List<Integer> ids = new ArrayList<>(Arrays.asList(1, 2, 3));
+        @JsonMerge
+        public Set<Integer> ports = new LinkedHashSet<>(Arrays.asList(80, 443));
+        @JsonMerge
+        public int[] limits = { 1, 2, 3 };
+        @JsonMerge
+        public long[] sizes = { 1, 2 };
+    }
+
+    @Test
+    public void testUpdate() throws IOException {
+        HoconMapper streaming = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+        HoconMapper tree = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+        for (HoconMapper mapper : Arrays.asList(streaming, tree)) {
+            Overrides overrides = new Overrides();
+            List<Integer> ids = overrides.ids;
+            int[] limits = overrides.limits;
+            mapper.readerForUpdating(overrides).readValue("ids { 1 = 20, 0 = 10 }, ports { 0 = 8080 }, limits { 0 = 10 }, sizes { 0 = 5, 1 = 6, 2 = 7 }");
+            // lists are updated in place, arrays are copied
+            Assert.assertSame(ids, overrides.ids);
+            Assert.assertEquals(Arrays.asList(10, 20, 3), overrides.ids);
+            Assert.assertEquals(Arrays.asList(8080, 443), new ArrayList<>(overrides.ports));
+            Assert.assertNotSame(limits, overrides.limits);
+            Assert.assertArrayEquals(new int[]{ 1, 2, 3 }, limits);
+            Assert.assertArrayEquals(new int[]{ 10, 2, 3 }, overrides.limits);
+            Assert.assertArrayEquals(new long[]{ 5, 6, 7 }, overrides.sizes);
+
+            mapper.readerForUpdating(overrides).readValue("ids { 0 = 1, 1 = 2, 2 = 3, 3 = 4 }, limits = [4]");
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 4), overrides.ids);
+            // arrays are still appended to
+            Assert.assertArrayEquals(new int[]{ 10, 2, 3, 4 }, overrides.limits);
+        }
+    }
+
+    public static class Defaults {
+        static final double[] DEFAULTS = { 0.5, 1.5, 2.5 };
+
+        @JsonMerge
+        public double[] weights = DEFAULTS;
+    }
+
+    @Test
+    public void testUpdateSharedDefaults() throws IOException {
+        HoconMapper streaming = new HoconMapper(new HoconFactory().enable(HoconReadFeature.STRICT_STREAMING_PARSER));
+        HoconMapper tree = new HoconMapper(new HoconFactory().disable(HoconReadFeature.STRICT_STREAMING_PARSER));
+        for (HoconMapper mapper : Arrays.asList(streaming, tree)) {
+            Defaults first = mapper.readerForUpdating(new Defaults()).readValue("weights { 0 = 9 }");
+            Defaults second = mapper.readerForUpdating(new Defaults()).readValue("weights { 0 = 8, 1 = 7 }");
+            Assert.assertArrayEquals(new double[]{ 9, 1.5, 2.5 }, first.weights, 0);
+            Assert.assertArrayEquals(new double[]{ 8, 7, 2.5 }, second.weights, 0);
+            // the shared array is not modified
+            Assert.assertArrayEquals(new double[]{ 0.5, 1.5, 2.5 }, Defaults.DEFAULTS, 0);
+        }
+    }
+
+    @Test
+    public void testParseIndex() {
+        Assert.assertEquals(0, HoconIndexedObjectParser.parseIndex("0"));
+        Assert.assertEquals(7, HoconIndexedObjectParser.parseIndex("007"));
+        Assert.assertEquals(Integer.MAX_VALUE, HoconIndexedObjectParser.parseIndex("2147483647"));
+        for (String key : Arrays.asList("", "+", "-", "+5", "-0", "-1", "1.0", "a", "1a", "2147483648", "99999999999999999999")) {
+            Assert.assertEquals(key, -1, HoconIndexedObjectParser.parseIndex(key));
+        }
+    }
+
+    private static String indexedObject(List<Integer> indexes, int factor) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int index : indexes) {
+            sb.append(' ').append(index).append(" = ").append(index * factor).append(',');
+        }
+        return sb.append('}').toString();
+    }
+
     @Test
     public void testShortArrays() throws IOException {
         HoconMapper mapper = new HoconMapper();